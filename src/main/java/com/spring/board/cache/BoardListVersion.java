@@ -0,0 +1,21 @@
+package com.spring.board.cache;
+
+import com.spring.board.support.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class BoardListVersion {
+
+    private final long startedAt = System.currentTimeMillis();
+    private final AtomicLong version = new AtomicLong();
+
+    public void bumpAfterCommit() {
+        AfterCommit.run(version::incrementAndGet);
+    }
+
+    public String getETag() {
+        return startedAt + "-" + version.get();
+    }
+}
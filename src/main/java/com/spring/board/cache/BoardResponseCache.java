@@ -0,0 +1,145 @@
+package com.spring.board.cache;
+
+import com.spring.board.response.board.BoardResponse;
+import com.spring.board.support.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class BoardResponseCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public BoardResponseCache(@Value("${board.cache.board.maximum-size:1000}") int maximumSize,
+                              @Value("${board.cache.board.ttl:60s}") Duration ttl) {
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > BoardResponseCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public BoardResponse get(Long boardId, Supplier<BoardResponse> loader) {
+        return get(boardId, Long.MIN_VALUE, loader);
+    }
+
+    public BoardResponse get(Long boardId, long minChangeStamp, Supplier<BoardResponse> loader) {
+        BoardResponse cached = getIfPresent(boardId);
+        if (cached != null && cached.getChangeStamp() >= minChangeStamp) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long generation = generations.get(stripe(boardId));
+        BoardResponse loaded = loader.get();
+        put(boardId, loaded, generation);
+        return loaded;
+    }
+
+    public void evictAfterCommit(Long boardId) {
+        AfterCommit.run(() -> evict(boardId));
+    }
+
+    public void evict(Long boardId) {
+        generations.incrementAndGet(stripe(boardId));
+        synchronized (entries) {
+            if (entries.remove(boardId) != null) {
+                invalidations.increment();
+            }
+        }
+        log.debug("board cache evict boardId={}", boardId);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private BoardResponse getIfPresent(Long boardId) {
+        synchronized (entries) {
+            Entry entry = entries.get(boardId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                entries.remove(boardId);
+                evictions.increment();
+                return null;
+            }
+            return entry.response;
+        }
+    }
+
+    private void put(Long boardId, BoardResponse response, long generation) {
+        synchronized (entries) {
+            // 조회 도중 수정/삭제가 커밋되었다면 이전 상태일 수 있으므로 캐시하지 않는다.
+            if (generations.get(stripe(boardId)) != generation) {
+                return;
+            }
+            entries.put(boardId, new Entry(response, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    private int stripe(Long boardId) {
+        return Long.hashCode(boardId) & (GENERATION_STRIPES - 1);
+    }
+
+    private static class Entry {
+
+        private final BoardResponse response;
+        private final long expiresAt;
+
+        private Entry(BoardResponse response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
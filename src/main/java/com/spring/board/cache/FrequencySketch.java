@@ -0,0 +1,81 @@
+package com.spring.board.cache;
+
+/**
+ * 키별 최근 접근 빈도를 4비트 카운터의 count-min sketch 로 근사한다. 한 행에 16개 카운터를 담은 long 배열을
+ * 네 개의 해시로 나눠 쓰며, 기록 수가 표본 크기에 이르면 모든 카운터를 절반으로 줄여 오래된 빈도를 잊는다.
+ * 동기화하지 않으므로 호출자가 잠금 안에서 사용한다.
+ */
+class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(int maximumSize) {
+        int capacity = Integer.highestOneBit(Math.max(1, maximumSize - 1) << 1);
+        this.table = new long[capacity];
+        this.tableMask = capacity - 1;
+        this.sampleSize = 10 * Math.max(1, maximumSize);
+    }
+
+    int frequency(long key) {
+        long hash = spread(key);
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, count(hash, i));
+        }
+        return frequency;
+    }
+
+    void increment(long key) {
+        long hash = spread(key);
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            int offset = offsetOf(hash, i);
+            if (((table[index] >>> offset) & 0xfL) != MAX_COUNT) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size /= 2;
+    }
+
+    private int count(long hash, int row) {
+        return (int) ((table[indexOf(hash, row)] >>> offsetOf(hash, row)) & 0xfL);
+    }
+
+    private int indexOf(long hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h ^= h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    private int offsetOf(long hash, int row) {
+        return (int) ((hash >>> (row << 3)) & 0xfL) << 2;
+    }
+
+    private static long spread(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb53fe1a85a63L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
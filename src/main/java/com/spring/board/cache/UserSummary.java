@@ -0,0 +1,18 @@
+package com.spring.board.cache;
+
+import com.spring.board.domain.Grade;
+import lombok.Getter;
+
+@Getter
+public class UserSummary {
+
+    private final Long id;
+    private final String nickname;
+    private final Grade grade;
+
+    public UserSummary(Long id, String nickname, Grade grade) {
+        this.id = id;
+        this.nickname = nickname;
+        this.grade = grade;
+    }
+}
@@ -0,0 +1,209 @@
+package com.spring.board.cache;
+
+import com.spring.board.repository.UserRepository;
+import com.spring.board.support.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 회원 id 별 닉네임과 등급을 담아 두어 응답을 만들 때 users 조인이나 지연 로딩 없이 작성자 정보를 채운다.
+ * 가득 찬 상태에서는 LRU 로 밀려날 항목보다 최근 접근 빈도가 높은 회원만 새로 들인다(TinyLFU).
+ * 놓친 id 는 모아서 한 번의 in 조회로 읽는다. 다른 노드의 변경은 ttl 이 지나야 반영된다.
+ */
+@Slf4j
+@Component
+public class UserSummaryCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final Function<Collection<Long>, List<UserSummary>> loader;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public UserSummaryCache(UserRepository userRepository,
+                            @Value("${board.cache.user.maximum-size:10000}") int maximumSize,
+                            @Value("${board.cache.user.ttl:10m}") Duration ttl) {
+        this(userRepository::findSummaries, maximumSize, ttl);
+    }
+
+    UserSummaryCache(Function<Collection<Long>, List<UserSummary>> loader, int maximumSize, Duration ttl) {
+        this.loader = loader;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * 없거나 삭제 표시된 회원이면 null 을 돌려준다.
+     */
+    public UserSummary get(Long userId) {
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    public Map<Long, UserSummary> getAll(Collection<Long> userIds) {
+        Map<Long, UserSummary> found = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        long now = System.nanoTime();
+        synchronized (entries) {
+            for (Long userId : userIds) {
+                if (userId == null || found.containsKey(userId) || missing.contains(userId)) {
+                    continue;
+                }
+                sketch.increment(userId);
+                Entry entry = entries.get(userId);
+                if (entry != null && entry.isExpired(now)) {
+                    entries.remove(userId);
+                    evictions.increment();
+                    entry = null;
+                }
+                if (entry == null) {
+                    missing.add(userId);
+                } else {
+                    found.put(userId, entry.summary);
+                }
+            }
+        }
+        hits.add(found.size());
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        misses.add(missing.size());
+        Map<Long, Long> loadGenerations = new HashMap<>();
+        missing.forEach(id -> loadGenerations.put(id, generations.get(stripe(id))));
+        for (List<Long> chunk : chunks(missing)) {
+            for (UserSummary summary : loader.apply(chunk)) {
+                found.put(summary.getId(), summary);
+                put(summary, loadGenerations.get(summary.getId()));
+            }
+        }
+        return found;
+    }
+
+    public void evictAfterCommit(Long userId) {
+        AfterCommit.run(() -> evict(userId));
+    }
+
+    public void evict(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        synchronized (entries) {
+            if (entries.remove(userId) != null) {
+                invalidations.increment();
+            }
+        }
+        log.debug("user summary cache evict userId={}", userId);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void put(UserSummary summary, long generation) {
+        Long userId = summary.getId();
+        synchronized (entries) {
+            // 조회 도중 수정/삭제가 커밋되었다면 이전 상태일 수 있으므로 캐시하지 않는다.
+            if (generations.get(stripe(userId)) != generation) {
+                return;
+            }
+            Entry entry = new Entry(summary, System.nanoTime() + ttlNanos);
+            if (entries.containsKey(userId) || entries.size() < maximumSize) {
+                entries.put(userId, entry);
+                return;
+            }
+
+            Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+            Long victim = eldest.next().getKey();
+            if (sketch.frequency(userId) <= sketch.frequency(victim)) {
+                rejections.increment();
+                return;
+            }
+            eldest.remove();
+            evictions.increment();
+            entries.put(userId, entry);
+        }
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        List<Long> chunk = new ArrayList<>(Math.min(ids.size(), LOAD_CHUNK_SIZE));
+        for (Long id : ids) {
+            chunk.add(id);
+            if (chunk.size() == LOAD_CHUNK_SIZE) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private int stripe(Long userId) {
+        return Long.hashCode(userId) & (GENERATION_STRIPES - 1);
+    }
+
+    private static class Entry {
+
+        private final UserSummary summary;
+        private final long expiresAt;
+
+        private Entry(UserSummary summary, long expiresAt) {
+            this.summary = summary;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.spring.board.controller;
 
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.cache.BoardResponseCache;
+import com.spring.board.cache.UserSummaryCache;
 import com.spring.board.domain.*;
 import com.spring.board.exception.board.BoardNotFound;
 import com.spring.board.exception.comment.CommentNotFound;
 import com.spring.board.exception.reply.ReplyNotFound;
 import com.spring.board.exception.user.UserNotFound;
+import com.spring.board.login.LoginSessions;
+import com.spring.board.login.LoginUser;
+import com.spring.board.login.PasswordHasher;
+import com.spring.board.purge.UserPurger;
 import com.spring.board.repository.*;
 import com.spring.board.request.login.LoginForm;
 import com.spring.board.request.board.BoardSearch;
@@ -28,12 +35,13 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpServletResponse;
+import java.time.LocalDateTime;
 import java.util.List;
 
-import static com.spring.board.Const.LOGIN_USER;
 import static com.spring.board.domain.Grade.ADMIN;
 import static org.springframework.data.domain.Sort.Direction.DESC;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 
 @Slf4j
 @Controller
@@ -49,9 +57,15 @@ public class AdminController {
     private final BoardService boardService;
     private final ReportService reportService;
     private final LoginService loginService;
+    private final LoginSessions loginSessions;
+    private final BoardResponseCache boardResponseCache;
+    private final BoardListVersion boardListVersion;
+    private final UserSummaryCache userSummaryCache;
+    private final UserPurger userPurger;
+    private final PasswordHasher passwordHasher;
 
     @GetMapping("/admin")
-    public String home(@Login User user, Model model) {
+    public String home(@Login LoginUser user, Model model) {
         if (user == null) {
             return "home";
         }
@@ -68,7 +82,7 @@ public class AdminController {
     @PostMapping("/admin/login")
     public String login(@ModelAttribute LoginForm loginForm, BindingResult bindingResult,
                         @RequestParam(defaultValue = "/") String redirectURL,
-                        HttpServletRequest request) {
+                        HttpServletRequest request, HttpServletResponse response) {
         if (bindingResult.hasErrors()) {
             return "loginForm";
         }
@@ -80,8 +94,7 @@ public class AdminController {
 
         User admin = loginService.login(loginForm.getLoginId(), loginForm.getPassword());
 
-        HttpSession session = request.getSession();
-        session.setAttribute(LOGIN_USER, admin);
+        loginSessions.login(request, response, LoginUser.from(admin));
 
         return "redirect:/admin" + redirectURL;
     }
@@ -121,7 +134,8 @@ public class AdminController {
         User user = userRepository.findById(userId)
                 .orElseThrow(UserNotFound::new);
 
-        userRepository.delete(user);
+        userPurger.schedule(user);
+        userSummaryCache.evictAfterCommit(userId);
 
         return "redirect:/admin";
     }
@@ -132,10 +146,13 @@ public class AdminController {
     }
 
     @PostMapping("/admin/user/edit/{userId}")
+    @Transactional(propagation = NOT_SUPPORTED)
     public String editUser(@PathVariable Long userId, @ModelAttribute EditUserRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(UserNotFound::new);
-        user.setPassword(request.getPassword());
+        String hashed = passwordHasher.hash(request.getPassword());
+        if (userRepository.changePassword(userId, hashed) == 0) {
+            throw new UserNotFound();
+        }
+        userSummaryCache.evictAfterCommit(userId);
         return "redirect:/admin";
     }
 
@@ -185,7 +202,7 @@ public class AdminController {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(BoardNotFound::new);
 
-        boardService.deleteBoard(boardId, board.getUser());
+        boardService.deleteBoard(boardId, LoginUser.from(board.getUser()));
         return "redirect:/admin";
     }
 
@@ -197,13 +214,18 @@ public class AdminController {
         Board board = boardRepository.findById(comment.getBoard().getId())
                 .orElseThrow(BoardNotFound::new);
 
-        List<Reply> replies = replyRepository.findByCommentId(commentId);
-
         model.addAttribute("board", comment.getBoard());
         model.addAttribute("comments", board.getComments());
 
-        replyRepository.deleteAllInBatch(replies);
-        commentRepository.delete(comment);
+        LocalDateTime now = LocalDateTime.now();
+        if (commentRepository.softDelete(commentId, now) == 0) {
+            throw new CommentNotFound();
+        }
+        int replies = replyRepository.softDeleteByCommentId(commentId, now);
+        boardRepository.addReplyCount(board.getId(), -replies);
+        boardRepository.addCommentCount(board.getId(), -1);
+        boardResponseCache.evictAfterCommit(board.getId());
+        boardListVersion.bumpAfterCommit();
         return "board";
     }
 
@@ -215,16 +237,25 @@ public class AdminController {
         model.addAttribute("board", reply.getBoard());
         model.addAttribute("comments", reply.getBoard().getComments());
 
-        replyRepository.delete(reply);
+        if (replyRepository.softDelete(replyId, LocalDateTime.now()) == 0) {
+            throw new ReplyNotFound();
+        }
+        boardRepository.addReplyCount(reply.getBoard().getId(), -1);
+        boardResponseCache.evictAfterCommit(reply.getBoard().getId());
+        boardListVersion.bumpAfterCommit();
         return "board";
     }
 
     @PostConstruct
     public void init() {
+        if (userRepository.findByLoginId("123").isPresent()) {
+            return;
+        }
+
         User admin = User.builder()
                 .nickname("관리자")
                 .loginId("123")
-                .password("123")
+                .password(passwordHasher.hash("123"))
                 .grade(ADMIN)
                 .build();
 
@@ -0,0 +1,36 @@
+package com.spring.board.controller;
+
+import com.spring.board.exception.InvalidRequest;
+import com.spring.board.login.LoginUser;
+import com.spring.board.service.BoardExportService;
+import com.spring.board.web.argumentresolver.Login;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static com.spring.board.domain.Grade.ADMIN;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final BoardExportService boardExportService;
+
+    @GetMapping("/admin/boards/export")
+    public ResponseEntity<StreamingResponseBody> exportBoards(@RequestParam(defaultValue = "false") boolean comments,
+                                                              @Login LoginUser user) {
+        if (user.getGrade() != ADMIN) {
+            throw new InvalidRequest();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(out -> boardExportService.export(out, comments));
+    }
+}
@@ -0,0 +1,47 @@
+package com.spring.board.controller;
+
+import com.spring.board.exception.InvalidRequest;
+import com.spring.board.login.LoginUser;
+import com.spring.board.response.ImportResponse;
+import com.spring.board.service.BulkImportService;
+import com.spring.board.web.argumentresolver.Login;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+import static com.spring.board.domain.Grade.ADMIN;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final BulkImportService bulkImportService;
+
+    @PostMapping(value = "/admin/users/import", consumes = NDJSON)
+    public ImportResponse importUsers(InputStream body, @Login LoginUser user) {
+        checkAdmin(user);
+        return bulkImportService.importUsers(body);
+    }
+
+    @PostMapping(value = "/admin/boards/import", consumes = NDJSON)
+    public ImportResponse importBoards(InputStream body, @Login LoginUser user) {
+        checkAdmin(user);
+        return bulkImportService.importBoards(body);
+    }
+
+    @PostMapping(value = "/admin/comments/import", consumes = NDJSON)
+    public ImportResponse importComments(InputStream body, @Login LoginUser user) {
+        checkAdmin(user);
+        return bulkImportService.importComments(body);
+    }
+
+    private void checkAdmin(LoginUser user) {
+        if (user.getGrade() != ADMIN) {
+            throw new InvalidRequest();
+        }
+    }
+}
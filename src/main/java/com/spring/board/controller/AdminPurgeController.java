@@ -0,0 +1,28 @@
+package com.spring.board.controller;
+
+import com.spring.board.exception.InvalidRequest;
+import com.spring.board.login.LoginUser;
+import com.spring.board.response.user.UserPurgeJobResponse;
+import com.spring.board.service.UserService;
+import com.spring.board.web.argumentresolver.Login;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.spring.board.domain.Grade.ADMIN;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminPurgeController {
+
+    private final UserService userService;
+
+    @GetMapping("/admin/user/purge/{jobId}")
+    public UserPurgeJobResponse getPurgeJob(@PathVariable Long jobId, @Login LoginUser user) {
+        if (user.getGrade() != ADMIN) {
+            throw new InvalidRequest();
+        }
+        return userService.getPurgeJob(jobId);
+    }
+}
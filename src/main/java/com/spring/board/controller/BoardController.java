@@ -1,8 +1,9 @@
 package com.spring.board.controller;
 
-import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.request.board.EditBoardRequest;
 import com.spring.board.request.board.WriteBoardRequest;
+import com.spring.board.response.CursorResponse;
 import com.spring.board.response.board.BoardResponse;
 import com.spring.board.response.board.BoardsResponse;
 import com.spring.board.response.board.EditBoardResponse;
@@ -13,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -26,33 +28,67 @@ public class BoardController {
     private final BoardService boardService;
 
     @GetMapping("/board/{boardId}")
-    public BoardResponse getBoard(@PathVariable Long boardId) {
-        return boardService.get(boardId);
+    public BoardResponse getBoard(@PathVariable Long boardId, WebRequest webRequest) {
+        long changeStamp = boardService.getChangeStamp(boardId);
+        if (webRequest.checkNotModified(String.valueOf(changeStamp))) {
+            return null;
+        }
+        return boardService.getByChangeStamp(boardId, changeStamp);
+    }
+
+    @GetMapping(value = "/board/{boardId}", params = "commentSize")
+    public BoardResponse getBoardWithCommentPage(@PathVariable Long boardId, @RequestParam int commentSize) {
+        return boardService.get(boardId, commentSize);
     }
 
     @GetMapping("/boards")
-    public List<BoardsResponse> getBoards(@PageableDefault(sort = "id", direction = DESC) Pageable pageable) {
+    public List<BoardsResponse> getBoards(@PageableDefault(sort = "id", direction = DESC) Pageable pageable,
+                                          WebRequest webRequest) {
+        if (webRequest.checkNotModified(boardService.getListETag())) {
+            return null;
+        }
         return boardService.getBoards(pageable);
     }
 
+    @GetMapping(value = "/boards", params = "cursor")
+    public CursorResponse<BoardsResponse> getBoardsByCursor(@RequestParam String cursor,
+                                                            @RequestParam(defaultValue = "10") int size,
+                                                            WebRequest webRequest) {
+        if (webRequest.checkNotModified(boardService.getListETag())) {
+            return null;
+        }
+        return boardService.getBoards(cursor, size);
+    }
+
+    @GetMapping("/boards/trending")
+    public List<BoardsResponse> getTrendingBoards(@RequestParam(defaultValue = "10") int size) {
+        return boardService.getTrendingBoards(size);
+    }
+
     @GetMapping("/board/search")
     public List<BoardsResponse> getBoardsBySearch(@RequestParam String title, @PageableDefault(sort = "id", direction = DESC) Pageable pageable) {
         return boardService.findBySearch(title, pageable);
     }
 
+    @GetMapping(value = "/board/search", params = "cursor")
+    public CursorResponse<BoardsResponse> getBoardsBySearchAndCursor(@RequestParam String title, @RequestParam String cursor,
+                                                                     @RequestParam(defaultValue = "10") int size) {
+        return boardService.findBySearch(title, cursor, size);
+    }
+
     @PostMapping("/board/write")
-    public WriteBoardResponse write(@RequestBody @Valid WriteBoardRequest request, @Login User user) {
+    public WriteBoardResponse write(@RequestBody @Valid WriteBoardRequest request, @Login LoginUser user) {
         return boardService.write(request, user.getId());
     }
 
     @PatchMapping("/board/edit/{boardId}")
     public EditBoardResponse edit(@PathVariable Long boardId, @RequestBody @Valid EditBoardRequest request,
-                                  @Login User user) {
+                                  @Login LoginUser user) {
         return boardService.editBoard(boardId, request, user);
     }
 
     @DeleteMapping("/board/delete/{boardId}")
-    public void delete(@PathVariable Long boardId, @Login User user) {
+    public void delete(@PathVariable Long boardId, @Login LoginUser user) {
         boardService.deleteBoard(boardId, user);
     }
 }
@@ -1,8 +1,10 @@
 package com.spring.board.controller;
 
-import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.request.comment.EditCommentRequest;
 import com.spring.board.request.comment.WriteCommentRequest;
+import com.spring.board.response.CursorResponse;
+import com.spring.board.response.comment.CommentDto;
 import com.spring.board.response.comment.EditCommentResponse;
 import com.spring.board.response.comment.SaveCommentResponse;
 import com.spring.board.service.CommentService;
@@ -21,19 +23,27 @@ public class CommentController {
     @PostMapping("/board/{boardId}/comment")
     public SaveCommentResponse write(@PathVariable Long boardId,
                                      @RequestBody @Valid WriteCommentRequest request,
-                                     @Login User user) {
+                                     @Login LoginUser user) {
         return commentService.writeComment(boardId, request, user);
     }
 
+    @GetMapping("/board/{boardId}/comments")
+    public CursorResponse<CommentDto> getComments(@PathVariable Long boardId,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "10") int size,
+                                                  @RequestParam(defaultValue = "3") int replySize) {
+        return commentService.getComments(boardId, cursor, size, replySize);
+    }
+
     @PatchMapping("/board/{boardId}/editComment/{commentId}")
     public EditCommentResponse edit(@PathVariable Long boardId, @PathVariable Long commentId,
                                   @RequestBody @Valid EditCommentRequest request,
-                                  @Login User user) {
+                                  @Login LoginUser user) {
         return commentService.editComment(boardId, commentId, user, request);
     }
 
     @DeleteMapping("/board/{boardId}/deleteComment/{commentId}")
-    public void delete(@PathVariable Long boardId, @PathVariable Long commentId, @Login User user) {
+    public void delete(@PathVariable Long boardId, @PathVariable Long commentId, @Login LoginUser user) {
         commentService.deleteComment(boardId, commentId, user);
     }
 }
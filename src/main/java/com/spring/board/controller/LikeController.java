@@ -1,6 +1,6 @@
 package com.spring.board.controller;
 
-import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.response.like.LikeResponse;
 import com.spring.board.service.LikeService;
 import com.spring.board.web.argumentresolver.Login;
@@ -17,12 +17,12 @@ public class LikeController {
     private final LikeService likeService;
 
     @PostMapping("/board/{boardId}/like")
-    public LikeResponse like(@PathVariable Long boardId, @Login User user) {
+    public LikeResponse like(@PathVariable Long boardId, @Login LoginUser user) {
         return likeService.like(boardId, user.getId());
     }
 
     @DeleteMapping("/board/{boardId}/cancelLike")
-    public void unlike(@PathVariable Long boardId, @Login User user) {
+    public void unlike(@PathVariable Long boardId, @Login LoginUser user) {
         likeService.cancelLike(boardId, user.getId());
     }
 }
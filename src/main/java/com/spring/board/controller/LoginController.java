@@ -1,6 +1,8 @@
 package com.spring.board.controller;
 
 import com.spring.board.domain.User;
+import com.spring.board.login.LoginSessions;
+import com.spring.board.login.LoginUser;
 import com.spring.board.request.login.LoginRequest;
 import com.spring.board.response.login.LoginResponse;
 import com.spring.board.service.LoginService;
@@ -10,23 +12,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
-import static com.spring.board.Const.LOGIN_USER;
-
 @RestController
 @RequiredArgsConstructor
 public class LoginController {
 
     private final LoginService loginService;
+    private final LoginSessions loginSessions;
 
     @PostMapping("/login")
-    public LoginResponse login(@RequestBody @Valid LoginRequest loginRequest, HttpServletRequest request) {
+    public LoginResponse login(@RequestBody @Valid LoginRequest loginRequest, HttpServletRequest request,
+                               HttpServletResponse response) {
         User loginUser = loginService.login(loginRequest.getLoginId(), loginRequest.getPassword());
-
-        HttpSession session = request.getSession();
-        session.setAttribute(LOGIN_USER, loginUser);
+        loginSessions.login(request, response, LoginUser.from(loginUser));
 
         return LoginResponse.builder()
                 .loginId(loginRequest.getLoginId())
@@ -35,10 +35,7 @@ public class LoginController {
     }
 
     @PostMapping("/logout")
-    public void logout(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            session.invalidate();
-        }
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        loginSessions.logout(request, response);
     }
 }
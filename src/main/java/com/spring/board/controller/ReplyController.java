@@ -1,9 +1,11 @@
 package com.spring.board.controller;
 
-import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.request.reply.EditReplyRequest;
 import com.spring.board.request.reply.WriteReplyRequest;
+import com.spring.board.response.CursorResponse;
 import com.spring.board.response.reply.EditReplyResponse;
+import com.spring.board.response.reply.ReplyDto;
 import com.spring.board.response.reply.WriteReplyResponse;
 import com.spring.board.service.ReplyService;
 import com.spring.board.web.argumentresolver.Login;
@@ -20,20 +22,27 @@ public class ReplyController {
 
     @PostMapping("/board/{boardId}/{commentId}/reply")
     public WriteReplyResponse writeReply(@PathVariable Long boardId, @PathVariable Long commentId,
-                                         @Login User user, @RequestBody @Valid WriteReplyRequest request) {
+                                         @Login LoginUser user, @RequestBody @Valid WriteReplyRequest request) {
         return replyService.writeReply(user, boardId, commentId, request);
     }
 
+    @GetMapping("/board/{boardId}/{commentId}/replies")
+    public CursorResponse<ReplyDto> getReplies(@PathVariable Long boardId, @PathVariable Long commentId,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "10") int size) {
+        return replyService.getReplies(boardId, commentId, cursor, size);
+    }
+
     @PatchMapping("/board/{boardId}/{commentId}/editReply/{replyId}")
     public EditReplyResponse editReply(@PathVariable Long boardId, @PathVariable Long commentId,
-                                       @PathVariable Long replyId, @Login User user,
+                                       @PathVariable Long replyId, @Login LoginUser user,
                                        @RequestBody @Valid EditReplyRequest request) {
         return replyService.editReply(user, boardId, commentId, replyId, request);
     }
 
     @DeleteMapping("/board/{boardId}/{commentId}/deleteReply/{replyId}")
     public void deleteReply(@PathVariable Long boardId, @PathVariable Long commentId,
-                            @PathVariable Long replyId, @Login User user) {
+                            @PathVariable Long replyId, @Login LoginUser user) {
         replyService.deleteReply(user, boardId, commentId, replyId);
     }
 }
@@ -1,6 +1,6 @@
 package com.spring.board.controller;
 
-import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.request.report.ReportRequest;
 import com.spring.board.response.report.ReportBoardsResponse;
 import com.spring.board.response.report.ReportResponse;
@@ -28,7 +28,7 @@ public class ReportController {
     }
 
     @PostMapping("/board/{boardId}/report")
-    public ReportResponse reportBoard(@PathVariable Long boardId, @Login User user,
+    public ReportResponse reportBoard(@PathVariable Long boardId, @Login LoginUser user,
                                       @RequestBody @Valid ReportRequest request) {
         return reportService.reportBoard(boardId, user.getId(), request);
     }
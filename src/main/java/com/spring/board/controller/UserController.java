@@ -1,11 +1,13 @@
 package com.spring.board.controller;
 
-import com.spring.board.domain.User;
+import com.spring.board.login.LoginSessions;
+import com.spring.board.login.LoginUser;
 import com.spring.board.request.user.EditUserRequest;
 import com.spring.board.request.user.SaveUserRequest;
 import com.spring.board.response.user.EditUserResponse;
 import com.spring.board.response.user.SaveUserResponse;
 import com.spring.board.response.user.UserBoardResponse;
+import com.spring.board.response.user.UserPurgeJobResponse;
 import com.spring.board.service.UserService;
 import com.spring.board.web.argumentresolver.Login;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,8 @@ import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import java.util.List;
 
@@ -21,6 +25,7 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final LoginSessions loginSessions;
 
     @GetMapping("/user/{userId}/boards")
     public List<UserBoardResponse> getBoards(@PathVariable Long userId) {
@@ -42,13 +47,16 @@ public class UserController {
 
     @PatchMapping("/user/edit/{userId}")
     public EditUserResponse edit(@PathVariable Long userId, @RequestBody @Valid EditUserRequest request,
-                                 @Login User user) {
-        User editUser = userService.editUserPassword(userId, request, user);
-        return new EditUserResponse(editUser.getPassword());
+                                 @Login LoginUser user) {
+        userService.editUserPassword(userId, request, user);
+        return new EditUserResponse(request.getPassword());
     }
 
     @DeleteMapping("/user/delete/{userId}")
-    public void delete(@PathVariable Long userId, @Login User user) {
-        userService.deleteUser(userId, user);
+    public UserPurgeJobResponse delete(@PathVariable Long userId, @Login LoginUser user,
+                                      HttpServletRequest request, HttpServletResponse response) {
+        UserPurgeJobResponse purgeJob = userService.deleteUser(userId, user);
+        loginSessions.logout(request, response);
+        return purgeJob;
     }
 }
@@ -0,0 +1,58 @@
+package com.spring.board.counter;
+
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class BoardCountReconciler {
+
+    private final BoardRepository boardRepository;
+    private final BoardListVersion boardListVersion;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BoardCountReconciler(BoardRepository boardRepository, BoardListVersion boardListVersion,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${board.counter.reconcile.chunk-size:1000}") int chunkSize) {
+        this.boardRepository = boardRepository;
+        this.boardListVersion = boardListVersion;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${board.counter.reconcile.cron:0 30 4 * * *}")
+    public int reconcile() {
+        int repaired = 0;
+        Long cursor = 0L;
+
+        while (true) {
+            List<Long> ids = boardRepository.findIdsAfter(cursor, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> drifted = boardRepository.findCountDrift(ids);
+                return drifted.isEmpty() ? 0 : boardRepository.reconcileCounts(drifted);
+            });
+            repaired += count;
+            cursor = ids.get(ids.size() - 1);
+        }
+
+        if (repaired > 0) {
+            boardListVersion.bumpAfterCommit();
+            log.warn("게시글 카운터 보정 boards={}", repaired);
+        }
+        return repaired;
+    }
+}
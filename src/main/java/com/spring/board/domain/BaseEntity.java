@@ -6,16 +6,22 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.EntityListeners;
 import javax.persistence.MappedSuperclass;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 public class BaseEntity {
 
     @CreatedDate
-    private LocalDate createdDate;
+    private LocalDateTime createdDate;
 
     @LastModifiedDate
-    private LocalDate modifiedDate;
+    private LocalDateTime modifiedDate;
 
+    /**
+     * 연관 엔티티만 바뀌어 자신은 변경되지 않은 경우에도 UPDATE 와 @Version 증가가 일어나도록 수정 시각을 갱신한다.
+     */
+    protected void markModified() {
+        this.modifiedDate = LocalDateTime.now();
+    }
 }
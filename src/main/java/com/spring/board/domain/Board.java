@@ -1,11 +1,14 @@
 package com.spring.board.domain;
 
+import com.spring.board.id.BoardIdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,23 +19,52 @@ import static lombok.AccessLevel.PROTECTED;
 @Getter
 @Setter
 @Entity
+@Where(clause = "deleted_date is null")
+@Table(indexes = @Index(columnList = "deletedDate"))
 @NoArgsConstructor(access = PROTECTED)
 public class Board extends BaseEntity {
 
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = BoardIdGenerator.NAME)
     @Column(name = "board_id")
     private Long id;
 
     private String title;
 
-    @Lob
-    private String content;
+    @Column(length = PREVIEW_LENGTH)
+    private String preview;
+
+    @OneToOne(fetch = LAZY, cascade = ALL, orphanRemoval = true)
+    @JoinColumn(name = "board_body_id")
+    private BoardBody body;
 
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
+    @Column(nullable = false, updatable = false)
+    private int replyCount;
+
+    @Column(nullable = false, updatable = false)
+    private int likeCount;
+
+    @Column(nullable = false, updatable = false)
+    private int reportCount;
+
+    @Column(nullable = false, updatable = false)
+    private long changeStamp;
+
+    @Column(updatable = false)
+    private LocalDateTime deletedDate;
+
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "board", cascade = ALL)
     private List<Comment> comments = new ArrayList<>();
 
@@ -48,9 +80,28 @@ public class Board extends BaseEntity {
     @Builder
     public Board(String title, String content, User user) {
         this.title = title;
-        this.content = content;
         this.user = user;
-        user.getBoards().add(this);
-        user.upgradeLevel();
+        setContent(content);
+    }
+
+    public String getContent() {
+        return body == null ? null : body.getContent();
+    }
+
+    public void setContent(String content) {
+        if (body == null) {
+            body = new BoardBody(content);
+        } else {
+            body.update(content);
+            markModified();
+        }
+        this.preview = toPreview(content);
+    }
+
+    public static String toPreview(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
     }
 }
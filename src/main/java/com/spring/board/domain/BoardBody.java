@@ -0,0 +1,94 @@
+package com.spring.board.domain;
+
+import com.spring.board.id.BoardIdGenerator;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PROTECTED;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = PROTECTED)
+public class BoardBody {
+
+    public static final int COMPRESSION_THRESHOLD = 1024;
+
+    @Id
+    @GeneratedValue(generator = BoardIdGenerator.NAME)
+    @Column(name = "board_body_id")
+    private Long id;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+
+    private boolean compressed;
+
+    private int originalLength;
+
+    @Transient
+    private String content;
+
+    public BoardBody(String content) {
+        update(content);
+    }
+
+    public void update(String content) {
+        byte[] raw = content == null ? new byte[0] : content.getBytes(UTF_8);
+        this.compressed = raw.length >= COMPRESSION_THRESHOLD;
+        this.data = compressed ? deflate(raw) : raw;
+        this.originalLength = raw.length;
+        this.content = content;
+    }
+
+    public String getContent() {
+        if (content == null && data != null) {
+            content = new String(compressed ? inflate(data, originalLength) : data, UTF_8);
+        }
+        return content;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed, int originalLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[originalLength];
+            int offset = 0;
+            while (offset < originalLength) {
+                int inflated = inflater.inflate(raw, offset, originalLength - offset);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("truncated board body");
+                }
+                offset += inflated;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("게시글 본문 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
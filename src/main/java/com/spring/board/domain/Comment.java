@@ -1,11 +1,14 @@
 package com.spring.board.domain;
 
+import com.spring.board.id.BoardIdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,11 +19,13 @@ import static lombok.AccessLevel.PROTECTED;
 @Getter
 @Setter
 @Entity
+@Where(clause = "deleted_date is null")
+@Table(indexes = {@Index(columnList = "createdDate"), @Index(columnList = "deletedDate")})
 @NoArgsConstructor(access = PROTECTED)
 public class Comment extends BaseEntity {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = BoardIdGenerator.NAME)
     @Column(name = "comment_id")
     private Long id;
 
@@ -34,6 +39,12 @@ public class Comment extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
+    @Column(updatable = false)
+    private LocalDateTime deletedDate;
+
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "comment", cascade = ALL)
     private List<Reply> replies = new ArrayList<>();
 
@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -12,4 +15,21 @@ public enum Grade {
 
     private int requiredBoardCount;
 
+    /**
+     * 관리자를 제외하고 게시글 수로 도달한 가장 높은 등급
+     */
+    public static Grade forBoardCount(int boardCount) {
+        Grade reached = SILVER;
+        for (Grade grade : values()) {
+            if (grade != ADMIN && boardCount >= grade.requiredBoardCount) {
+                reached = grade;
+            }
+        }
+        return reached;
+    }
+
+    public List<Grade> lowerGrades() {
+        return Arrays.asList(values()).subList(0, ordinal());
+    }
+
 }
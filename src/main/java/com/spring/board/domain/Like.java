@@ -1,6 +1,6 @@
 package com.spring.board.domain;
 
-import com.spring.board.exception.like.DuplicationLikeException;
+import com.spring.board.id.BoardIdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,20 +8,19 @@ import lombok.Setter;
 
 import javax.persistence.*;
 
-import java.util.Optional;
-
 import static javax.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "likes")
+@Table(name = "likes", indexes = @Index(columnList = "createdDate"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_likes_board_user", columnNames = {"board_id", "user_id"}))
 @NoArgsConstructor(access = PROTECTED)
-public class Like {
+public class Like extends BaseEntity {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = BoardIdGenerator.NAME)
     @Column(name = "like_id")
     private Long id;
 
@@ -34,12 +33,8 @@ public class Like {
     private Board board;
 
     @Builder
-    public Like(User user, Board board, Optional<Like> like) {
-        if (!like.isEmpty()) {
-            throw new DuplicationLikeException();
-        }
+    public Like(User user, Board board) {
         this.user = user;
         this.board = board;
-        user.getLikes().add(this);
     }
 }
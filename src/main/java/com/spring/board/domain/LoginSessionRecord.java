@@ -0,0 +1,34 @@
+package com.spring.board.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * JdbcLoginSessionRepository 가 쓰는 login_session 테이블 정의. 읽기와 쓰기는 JdbcTemplate 으로만 한다.
+ */
+@Getter
+@Entity
+@Table(name = "login_session", indexes = {@Index(columnList = "expiresAt"), @Index(columnList = "userId")})
+@NoArgsConstructor(access = PROTECTED)
+public class LoginSessionRecord {
+
+    @Id
+    @Column(name = "session_id", length = 64)
+    private String id;
+
+    private Long userId;
+
+    @Column(nullable = false, length = 512)
+    private byte[] data;
+
+    @Column(nullable = false)
+    private long expiresAt;
+}
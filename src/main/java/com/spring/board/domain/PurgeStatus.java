@@ -0,0 +1,5 @@
+package com.spring.board.domain;
+
+public enum PurgeStatus {
+    PENDING, RUNNING, DONE, FAILED
+}
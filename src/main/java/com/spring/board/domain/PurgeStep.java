@@ -0,0 +1,10 @@
+package com.spring.board.domain;
+
+public enum PurgeStep {
+    BOARDS, REPLIES, COMMENTS, LIKES, REPORTS, USER;
+
+    public PurgeStep next() {
+        PurgeStep[] steps = values();
+        return ordinal() + 1 < steps.length ? steps[ordinal() + 1] : this;
+    }
+}
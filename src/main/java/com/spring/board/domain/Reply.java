@@ -1,21 +1,26 @@
 package com.spring.board.domain;
 
+import com.spring.board.id.BoardIdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 import static javax.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
 
 @Getter
 @Entity
+@Where(clause = "deleted_date is null")
+@Table(indexes = {@Index(columnList = "createdDate"), @Index(columnList = "deletedDate")})
 @NoArgsConstructor(access = PROTECTED)
 public class Reply extends BaseEntity {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = BoardIdGenerator.NAME)
     @Column(name = "reply_id")
     private Long id;
 
@@ -33,6 +38,12 @@ public class Reply extends BaseEntity {
     @JoinColumn(name = "comment_id")
     private Comment comment;
 
+    @Column(updatable = false)
+    private LocalDateTime deletedDate;
+
+    @Version
+    private Long version;
+
     @Builder
     public Reply(String reply, User user, Board board, Comment comment) {
         this.reply = reply;
@@ -1,14 +1,13 @@
 package com.spring.board.domain;
 
-import com.spring.board.exception.report.DuplicationReportException;
 import com.spring.board.exception.report.ReportInvalidRequest;
+import com.spring.board.id.BoardIdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import javax.persistence.*;
-import java.util.Optional;
 
 import static javax.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.PROTECTED;
@@ -16,11 +15,12 @@ import static lombok.AccessLevel.PROTECTED;
 @Getter
 @Setter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_report_board_user", columnNames = {"board_id", "user_id"}))
 @NoArgsConstructor(access = PROTECTED)
 public class Report {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = BoardIdGenerator.NAME)
     @Column(name = "report_id")
     private Long id;
 
@@ -35,11 +35,7 @@ public class Report {
     private Board board;
 
     @Builder
-    public Report(String reportContent, User user, Board board, Optional<Report> report) {
-        if (!report.isEmpty()) {
-            throw new DuplicationReportException();
-        }
-
+    public Report(String reportContent, User user, Board board) {
         if (user.getId().equals(board.getUser().getId())) {
             throw new ReportInvalidRequest();
         }
@@ -47,6 +43,5 @@ public class Report {
         this.reportContent = reportContent;
         this.setUser(user);
         this.setBoard(board);
-        user.getReports().add(this);
     }
 }
@@ -1,5 +1,6 @@
 package com.spring.board.domain;
 
+import com.spring.board.id.BoardIdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,7 +10,6 @@ import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.spring.board.domain.Grade.ADMIN;
 import static javax.persistence.CascadeType.ALL;
 import static javax.persistence.EnumType.STRING;
 import static lombok.AccessLevel.PROTECTED;
@@ -17,12 +17,12 @@ import static lombok.AccessLevel.PROTECTED;
 @Getter
 @Setter
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = "uk_users_login_id", columnNames = "loginId"))
 @NoArgsConstructor(access = PROTECTED)
 public class User {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = BoardIdGenerator.NAME)
     @Column(name = "user_id")
     private Long id;
 
@@ -33,6 +33,12 @@ public class User {
     @Enumerated(STRING)
     private Grade grade;
 
+    @Column(nullable = false, updatable = false)
+    private int boardCount;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
     @OneToMany(mappedBy = "user", cascade = ALL)
     private List<Board> boards = new ArrayList<>();
 
@@ -56,18 +62,7 @@ public class User {
         this.grade = grade;
     }
 
-    public void upgradeLevel() {
-        Grade[] grades = Grade.values();
-        for (int i = 0; i < grades.length; i++) {
-            if (grade == grades[i]) {
-                if (i == grades.length - 1) {
-                    break;
-                }
-                if (boards.size() >= grades[i + 1].getRequiredBoardCount() && grades[i + 1] != ADMIN) {
-                    grade = grades[i + 1];
-                }
-                break;
-            }
-        }
+    public void markDeleted() {
+        deleted = true;
     }
 }
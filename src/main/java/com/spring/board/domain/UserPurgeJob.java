@@ -0,0 +1,74 @@
+package com.spring.board.domain;
+
+import com.spring.board.id.BoardIdGenerator;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+import static com.spring.board.domain.PurgeStatus.*;
+import static com.spring.board.domain.PurgeStep.BOARDS;
+import static javax.persistence.EnumType.STRING;
+import static lombok.AccessLevel.PROTECTED;
+
+@Getter
+@Entity
+@Table(indexes = @Index(columnList = "status"))
+@NoArgsConstructor(access = PROTECTED)
+public class UserPurgeJob extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(generator = BoardIdGenerator.NAME)
+    @Column(name = "user_purge_job_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private PurgeStatus status;
+
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private PurgeStep step;
+
+    private long deletedRows;
+    private int attempts;
+    private String lastError;
+
+    public UserPurgeJob(Long userId) {
+        this.userId = userId;
+        this.status = PENDING;
+        this.step = BOARDS;
+    }
+
+    public boolean isFinished() {
+        return status == DONE || status == FAILED;
+    }
+
+    public void start() {
+        status = RUNNING;
+        attempts++;
+    }
+
+    public void progress(long rows) {
+        deletedRows += rows;
+    }
+
+    public void moveTo(PurgeStep step) {
+        this.step = step;
+    }
+
+    public void done() {
+        status = DONE;
+        lastError = null;
+    }
+
+    public void fail(String error, int maxAttempts) {
+        lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        status = attempts >= maxAttempts ? FAILED : PENDING;
+    }
+}
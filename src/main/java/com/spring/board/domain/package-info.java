@@ -0,0 +1,5 @@
+@GenericGenerator(name = BoardIdGenerator.NAME, strategy = "com.spring.board.id.BoardIdGenerator")
+package com.spring.board.domain;
+
+import com.spring.board.id.BoardIdGenerator;
+import org.hibernate.annotations.GenericGenerator;
@@ -0,0 +1,15 @@
+package com.spring.board.exception;
+
+public class EditConflict extends Exception {
+
+    private static final String MESSAGE = "다른 사용자가 먼저 수정했습니다. 다시 조회한 후 수정하세요.";
+
+    public EditConflict() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatus() {
+        return 409;
+    }
+}
@@ -0,0 +1,15 @@
+package com.spring.board.exception;
+
+public class TooManyRequests extends Exception {
+
+    private static final String MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.";
+
+    public TooManyRequests() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatus() {
+        return 429;
+    }
+}
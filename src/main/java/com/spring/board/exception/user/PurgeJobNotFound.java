@@ -0,0 +1,17 @@
+package com.spring.board.exception.user;
+
+import com.spring.board.exception.Exception;
+
+public class PurgeJobNotFound extends Exception {
+
+    private static final String MESSAGE = "존재하지 않는 회원 삭제 작업입니다.";
+
+    public PurgeJobNotFound() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatus() {
+        return 404;
+    }
+}
@@ -0,0 +1,68 @@
+package com.spring.board.id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.ExportableProducer;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+/**
+ * {@code board.id.strategy} 가 snowflake 이면 노드별 {@link Snowflake} 로, sequence 이면
+ * 기존 hibernate_sequence 방식으로 아이디를 만든다.
+ */
+public class BoardIdGenerator implements IdentifierGenerator, Configurable, ExportableProducer {
+
+    public static final String NAME = "board_id_generator";
+    public static final String STRATEGY = "board.id.strategy";
+    public static final String NODE_ID = "board.id.node-id";
+
+    private Snowflake snowflake;
+    private SequenceStyleGenerator sequence;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        ConfigurationService settings = serviceRegistry.getService(ConfigurationService.class);
+        String strategy = settings.getSetting(STRATEGY, StandardConverters.STRING, "snowflake");
+
+        switch (strategy) {
+            case "snowflake":
+                String nodeId = settings.getSetting(NODE_ID, StandardConverters.STRING);
+                if (nodeId == null) {
+                    throw new MappingException("board.id.node-id 를 노드마다 다른 값으로 설정해야 합니다.");
+                }
+                snowflake = Snowflake.forNode(Long.parseLong(nodeId));
+                break;
+            case "sequence":
+                sequence = new SequenceStyleGenerator();
+                sequence.configure(type, params, serviceRegistry);
+                break;
+            default:
+                throw new MappingException("지원하지 않는 아이디 전략입니다. strategy=" + strategy);
+        }
+    }
+
+    @Override
+    public void registerExportables(Database database) {
+        if (sequence != null) {
+            sequence.registerExportables(database);
+        }
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        if (sequence != null) {
+            return sequence.generate(session, object);
+        }
+        return snowflake.nextId();
+    }
+}
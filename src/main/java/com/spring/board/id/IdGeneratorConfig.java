@@ -0,0 +1,45 @@
+package com.spring.board.id;
+
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    private final Long nodeId;
+
+    public IdGeneratorConfig(@Value("${board.id.node-id:#{null}}") Long nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 노드마다 다른 값을 주지 않으면 여러 노드가 같은 id 를 만들 수 있으므로, 처음 id 를 만들 때 기본값 없이 설정을 요구한다.
+     */
+    @Bean
+    @Lazy
+    public Snowflake snowflake() {
+        if (nodeId == null) {
+            throw new IllegalStateException("board.id.node-id 를 노드마다 다른 값으로 설정해야 합니다.");
+        }
+        return Snowflake.forNode(nodeId);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer boardIdGeneratorCustomizer(@Value("${board.id.strategy:snowflake}") String strategy) {
+        return properties -> {
+            properties.put(BoardIdGenerator.STRATEGY, strategy);
+            if (nodeId != null) {
+                properties.put(BoardIdGenerator.NODE_ID, nodeId);
+            }
+        };
+    }
+
+    @Bean
+    public Module idJsonModule() {
+        return new IdJsonModule();
+    }
+}
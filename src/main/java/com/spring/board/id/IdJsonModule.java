@@ -0,0 +1,39 @@
+package com.spring.board.id;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.util.List;
+
+/**
+ * Snowflake id 는 2^53 을 넘으므로 JSON 숫자로 내보내면 브라우저의 JSON.parse 가 값을 반올림한다.
+ * 이름이 id 이거나 Id 로 끝나는 Long 속성은 문자열로 직렬화한다. 요청의 문자열 id 는 Jackson 이 Long 으로 바꿔 읽는다.
+ */
+public class IdJsonModule extends SimpleModule {
+
+    public IdJsonModule() {
+        super("board-id");
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription description,
+                                                             List<BeanPropertyWriter> properties) {
+                for (BeanPropertyWriter property : properties) {
+                    if (isId(property)) {
+                        property.assignSerializer(ToStringSerializer.instance);
+                    }
+                }
+                return properties;
+            }
+        });
+    }
+
+    private static boolean isId(BeanPropertyWriter property) {
+        Class<?> type = property.getType().getRawClass();
+        String name = property.getName();
+        return (type == Long.class || type == long.class) && (name.equals("id") || name.endsWith("Id"));
+    }
+}
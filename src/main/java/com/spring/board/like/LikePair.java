@@ -0,0 +1,17 @@
+package com.spring.board.like;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+public class LikePair {
+
+    private final Long userId;
+    private final Long boardId;
+
+    public LikePair(Long userId, Long boardId) {
+        this.userId = userId;
+        this.boardId = boardId;
+    }
+}
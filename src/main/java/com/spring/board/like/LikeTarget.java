@@ -0,0 +1,17 @@
+package com.spring.board.like;
+
+import lombok.Getter;
+
+@Getter
+public class LikeTarget {
+
+    private final String title;
+    private final String preview;
+    private final Long boardUserId;
+
+    public LikeTarget(String title, String preview, Long boardUserId) {
+        this.title = title;
+        this.preview = preview;
+        this.boardUserId = boardUserId;
+    }
+}
@@ -0,0 +1,323 @@
+package com.spring.board.like;
+
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.exception.like.DuplicationLikeException;
+import com.spring.board.exception.like.LikeNotFound;
+import com.spring.board.id.Snowflake;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.LikeRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.trending.Activity;
+import com.spring.board.trending.TrendingBoardTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * 좋아요/취소를 (회원, 게시글) 단위로 모아 두었다가 주기적으로, 또는 대기 건수가 임계치를 넘으면 한 번에 저장한다.
+ * 같은 쌍의 좋아요와 취소는 버퍼 안에서 상쇄되며, 저장 전 장애 시 최대 max-pending 건까지 유실될 수 있다.
+ */
+@Slf4j
+@Component
+public class LikeWriteBuffer {
+
+    private static final String INSERT_LIKE =
+            "insert into likes (like_id, user_id, board_id, created_date, modified_date) values (?, ?, ?, ?, ?)";
+    private static final String SELECT_PERSISTED = "select like_id, user_id, board_id from likes where (board_id, user_id) in (%s)";
+
+    private final LikeRepository likeRepository;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final TrendingBoardTracker trendingBoardTracker;
+    private final BoardListVersion boardListVersion;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<Snowflake> snowflake;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int flushThreshold;
+    private final int maxPending;
+    private final int batchSize;
+
+    private final List<Map<LikePair, Boolean>> shards;
+    private final Map<LikePair, Boolean> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong committed = new AtomicLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "like-write-buffer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LikeWriteBuffer(LikeRepository likeRepository, BoardRepository boardRepository,
+                           UserRepository userRepository, TrendingBoardTracker trendingBoardTracker,
+                           BoardListVersion boardListVersion, JdbcTemplate jdbcTemplate, ObjectProvider<Snowflake> snowflake,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${board.like.write-behind.enabled:false}") boolean enabled,
+                           @Value("${board.like.write-behind.shards:16}") int shardCount,
+                           @Value("${board.like.write-behind.flush-threshold:5000}") int flushThreshold,
+                           @Value("${board.like.write-behind.max-pending:100000}") int maxPending,
+                           @Value("${board.like.write-behind.batch-size:1000}") int batchSize) {
+        this.likeRepository = likeRepository;
+        this.boardRepository = boardRepository;
+        this.userRepository = userRepository;
+        this.trendingBoardTracker = trendingBoardTracker;
+        this.boardListVersion = boardListVersion;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snowflake = snowflake;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.flushThreshold = flushThreshold;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new HashMap<>());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public boolean like(Long userId, Long boardId) {
+        return record(new LikePair(userId, boardId), true);
+    }
+
+    public boolean cancel(Long userId, Long boardId) {
+        return record(new LikePair(userId, boardId), false);
+    }
+
+    private boolean record(LikePair pair, boolean liked) {
+        Map<LikePair, Boolean> shard = shardOf(pair);
+        Boolean persisted = null;
+        long version = 0;
+        while (true) {
+            synchronized (shard) {
+                Boolean previous = shard.get(pair);
+                if (previous != null) {
+                    if (previous == liked) {
+                        throw liked ? new DuplicationLikeException() : new LikeNotFound();
+                    }
+                    shard.remove(pair);
+                    pending.decrementAndGet();
+                    break;
+                }
+                if (pending.get() >= maxPending) {
+                    return false;
+                }
+                Boolean current = inFlight.get(pair);
+                if (current == null && version == committed.get()) {
+                    current = persisted;
+                }
+                if (current != null) {
+                    if (current == liked) {
+                        throw liked ? new DuplicationLikeException() : new LikeNotFound();
+                    }
+                    shard.put(pair, liked);
+                    pending.incrementAndGet();
+                    break;
+                }
+            }
+
+            // DB 는 락 밖에서 읽고, 그 사이 저장이 커밋되었으면 다시 읽는다.
+            version = committed.get();
+            persisted = likeRepository.existsByBoardIdAndUserId(pair.getBoardId(), pair.getUserId());
+        }
+
+        if (pending.get() >= flushThreshold && flushScheduled.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    flushScheduled.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false);
+            }
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${board.like.write-behind.flush-millis:1000}")
+    public synchronized int flush() {
+        Map<LikePair, Boolean> drained = drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<LikePair, Boolean>> entries = new ArrayList<>(drained.entrySet());
+        int applied = 0;
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<LikePair, Boolean>> batch = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            try {
+                try {
+                    applied += writeInTransaction(batch);
+                } catch (DataIntegrityViolationException e) {
+                    log.warn("좋아요 일괄 저장 중 제약 위반, 한 건씩 다시 저장 pending={}", batch.size(), e);
+                    applied += writeEach(batch);
+                }
+            } catch (RuntimeException e) {
+                log.error("좋아요 일괄 저장 실패 pending={}", batch.size(), e);
+                restore(entries.subList(from, entries.size()));
+                break;
+            }
+        }
+        return applied;
+    }
+
+    @PreDestroy
+    public void close() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    private int writeInTransaction(List<Map.Entry<LikePair, Boolean>> batch) {
+        Integer count = transactionTemplate.execute(status -> write(batch));
+        committed.incrementAndGet();
+        batch.forEach(entry -> inFlight.remove(entry.getKey()));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 일괄 저장이 제약 위반으로 실패한 묶음을 한 건씩 다시 저장하고, 그래도 위반하는 건은 버린다.
+     */
+    private int writeEach(List<Map.Entry<LikePair, Boolean>> batch) {
+        int applied = 0;
+        for (Map.Entry<LikePair, Boolean> entry : batch) {
+            if (!inFlight.containsKey(entry.getKey())) {
+                continue;
+            }
+            try {
+                applied += writeInTransaction(List.of(entry));
+            } catch (DataIntegrityViolationException e) {
+                inFlight.remove(entry.getKey());
+                log.warn("좋아요 저장 제약 위반으로 버림 userId={} boardId={} liked={}",
+                        entry.getKey().getUserId(), entry.getKey().getBoardId(), entry.getValue(), e);
+            }
+        }
+        return applied;
+    }
+
+    private int write(List<Map.Entry<LikePair, Boolean>> batch) {
+        Set<Long> userIds = batch.stream().map(e -> e.getKey().getUserId()).collect(toSet());
+        Set<Long> boardIds = batch.stream().map(e -> e.getKey().getBoardId()).collect(toSet());
+        Map<LikePair, Long> persisted = new HashMap<>();
+        findPersisted(batch).forEach(l -> persisted.put(l.getPair(), l.getLikeId()));
+        Set<Long> users = new HashSet<>(userRepository.findExistingIds(userIds));
+        Set<Long> boards = new HashSet<>(boardRepository.findExistingIds(boardIds));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> inserts = new ArrayList<>();
+        Snowflake ids = snowflake.getObject();
+        List<Long> deletes = new ArrayList<>();
+        Map<Long, Integer> deltas = new TreeMap<>();
+        for (Map.Entry<LikePair, Boolean> entry : batch) {
+            LikePair pair = entry.getKey();
+            if (entry.getValue()) {
+                if (!persisted.containsKey(pair) && users.contains(pair.getUserId()) && boards.contains(pair.getBoardId())) {
+                    inserts.add(new Object[]{ids.nextId(), pair.getUserId(), pair.getBoardId(), now, now});
+                    deltas.merge(pair.getBoardId(), 1, Integer::sum);
+                    trendingBoardTracker.recordAfterCommit(pair.getBoardId(), Activity.LIKE);
+                }
+            } else if (persisted.containsKey(pair)) {
+                deletes.add(persisted.get(pair));
+                deltas.merge(pair.getBoardId(), -1, Integer::sum);
+            }
+        }
+
+        // 동기 좋아요와 같은 순서로 게시글 행을 id 순으로 먼저 갱신해 교착을 피한다.
+        deltas.forEach((boardId, delta) -> {
+            if (delta != 0) {
+                boardRepository.addLikeCount(boardId, delta);
+            }
+        });
+        jdbcTemplate.batchUpdate(INSERT_LIKE, inserts);
+        if (!deletes.isEmpty()) {
+            likeRepository.deleteAllByIdInBatch(deletes);
+        }
+        if (!deltas.isEmpty()) {
+            boardListVersion.bumpAfterCommit();
+        }
+        return inserts.size() + deletes.size();
+    }
+
+    private List<PersistedLike> findPersisted(List<Map.Entry<LikePair, Boolean>> batch) {
+        String sql = String.format(SELECT_PERSISTED, String.join(", ", Collections.nCopies(batch.size(), "(?, ?)")));
+        Object[] args = new Object[batch.size() * 2];
+        for (int i = 0; i < batch.size(); i++) {
+            args[i * 2] = batch.get(i).getKey().getBoardId();
+            args[i * 2 + 1] = batch.get(i).getKey().getUserId();
+        }
+        return jdbcTemplate.query(sql, (rs, rowNum) ->
+                new PersistedLike(rs.getLong("like_id"), rs.getLong("user_id"), rs.getLong("board_id")), args);
+    }
+
+    private Map<LikePair, Boolean> drain() {
+        Map<LikePair, Boolean> drained = new HashMap<>();
+        for (Map<LikePair, Boolean> shard : shards) {
+            synchronized (shard) {
+                drained.putAll(shard);
+                inFlight.putAll(shard);
+                pending.addAndGet(-shard.size());
+                shard.clear();
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 아직 저장되지 않은 항목을 버퍼로 되돌린다. 그 사이 같은 쌍에 새로 쌓인 반대 요청과는 상쇄한다.
+     */
+    private void restore(List<Map.Entry<LikePair, Boolean>> entries) {
+        for (Map.Entry<LikePair, Boolean> entry : entries) {
+            Map<LikePair, Boolean> shard = shardOf(entry.getKey());
+            synchronized (shard) {
+                if (inFlight.remove(entry.getKey()) == null) {
+                    continue;
+                }
+                Boolean newer = shard.get(entry.getKey());
+                if (newer == null) {
+                    shard.put(entry.getKey(), entry.getValue());
+                    pending.incrementAndGet();
+                } else if (!newer.equals(entry.getValue())) {
+                    shard.remove(entry.getKey());
+                    pending.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private Map<LikePair, Boolean> shardOf(LikePair pair) {
+        return shards.get(Math.floorMod(pair.hashCode(), shards.size()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.spring.board.like;
+
+import lombok.Getter;
+
+@Getter
+public class PersistedLike {
+
+    private final Long likeId;
+    private final LikePair pair;
+
+    public PersistedLike(Long likeId, Long userId, Long boardId) {
+        this.likeId = likeId;
+        this.pair = new LikePair(userId, boardId);
+    }
+}
@@ -0,0 +1,149 @@
+package com.spring.board.login;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * 세션 하나를 파일 하나로 저장한다. 같은 호스트의 노드들이 디렉터리를 공유하면 스티키 세션 없이 로그인이 유지되고,
+ * 노드를 재시작해도 세션이 남는다. 쓰기는 임시 파일에 쓴 뒤 원자적으로 이름을 바꿔 읽는 쪽이 반쯤 쓴 파일을 보지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.session.store", havingValue = "file")
+public class FileLoginSessionRepository implements LoginSessionRepository {
+
+    private static final Pattern SESSION_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    public FileLoginSessionRepository(@Value("${board.session.file.dir:${java.io.tmpdir}/board-sessions}") String directory) {
+        this.directory = Paths.get(directory);
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void save(String sessionId, LoginUser user, long expiresAt) {
+        write(resolve(sessionId).orElseThrow(IllegalArgumentException::new), user, expiresAt, false);
+    }
+
+    @Override
+    public boolean renew(String sessionId, LoginUser user, long expiresAt) {
+        Optional<Path> target = resolve(sessionId);
+        return target.isPresent() && write(target.get(), user, expiresAt, true);
+    }
+
+    @Override
+    public Optional<LoginSessionEntry> find(String sessionId) {
+        Optional<Path> path = resolve(sessionId);
+        if (path.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LoginSessionCodec.decode(Files.readAllBytes(path.get())));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        resolve(sessionId).ifPresent(this::deleteQuietly);
+    }
+
+    /**
+     * 회원별 색인이 없으므로 디렉터리를 훑는다. 회원 삭제 때만 호출된다.
+     */
+    @Override
+    public int deleteByUserId(Long userId) {
+        return deleteIf(data -> userId.equals(LoginSessionCodec.decode(data).getUser().getId()));
+    }
+
+    @Override
+    public int deleteExpired(long now) {
+        return deleteIf(data -> LoginSessionCodec.readExpiresAt(data) <= now);
+    }
+
+    private boolean write(Path target, LoginUser user, long expiresAt, boolean existingOnly) {
+        Path temp = directory.resolve(target.getFileName() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            Files.write(temp, LoginSessionCodec.encode(user, expiresAt));
+            if (existingOnly && !Files.exists(target)) {
+                deleteQuietly(temp);
+                return false;
+            }
+            Files.move(temp, target, ATOMIC_MOVE, REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 디렉터리의 세션 파일 중 조건에 맞는 것을 지운다. 읽을 수 없는 파일은 건너뛰고, 내용이 손상된 파일은 지운다.
+     */
+    private int deleteIf(Predicate<byte[]> condition) {
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                    continue;
+                }
+                try {
+                    if (condition.test(Files.readAllBytes(file)) && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // 다른 노드가 먼저 지웠다
+                } catch (IOException e) {
+                    log.warn("세션 파일 읽기 실패 path={}", file, e);
+                } catch (RuntimeException e) {
+                    log.warn("손상된 세션 파일 삭제 path={}", file, e);
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return deleted;
+    }
+
+    private Optional<Path> resolve(String sessionId) {
+        if (sessionId == null || !SESSION_ID.matcher(sessionId).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(directory.resolve(sessionId));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("세션 파일 삭제 실패 path={}", path, e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.spring.board.login;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * login_session 테이블에 세션을 저장해 여러 호스트의 노드가 함께 쓴다. 영속성 컨텍스트를 거치지 않도록
+ * JdbcTemplate 으로 직접 읽고 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.session.store", havingValue = "jdbc")
+public class JdbcLoginSessionRepository implements LoginSessionRepository {
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private static final String UPDATE =
+            "update login_session set data = ?, expires_at = ? where session_id = ?";
+    private static final String INSERT =
+            "insert into login_session (session_id, user_id, data, expires_at) values (?, ?, ?, ?)";
+    private static final String SELECT =
+            "select data from login_session where session_id = ?";
+    private static final String DELETE =
+            "delete from login_session where session_id = ?";
+    private static final String DELETE_BY_USER =
+            "delete from login_session where user_id = ?";
+    private static final String DELETE_EXPIRED =
+            "delete from login_session where expires_at <= ? limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcLoginSessionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void save(String sessionId, LoginUser user, long expiresAt) {
+        byte[] data = LoginSessionCodec.encode(user, expiresAt);
+        if (jdbcTemplate.update(UPDATE, data, expiresAt, sessionId) == 0) {
+            jdbcTemplate.update(INSERT, sessionId, user.getId(), data, expiresAt);
+        }
+    }
+
+    @Override
+    public boolean renew(String sessionId, LoginUser user, long expiresAt) {
+        return jdbcTemplate.update(UPDATE, LoginSessionCodec.encode(user, expiresAt), expiresAt, sessionId) > 0;
+    }
+
+    @Override
+    public Optional<LoginSessionEntry> find(String sessionId) {
+        List<byte[]> rows = jdbcTemplate.query(SELECT, (rs, rowNum) -> rs.getBytes(1), sessionId);
+        return rows.stream()
+                .findFirst()
+                .map(LoginSessionCodec::decode);
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        jdbcTemplate.update(DELETE, sessionId);
+    }
+
+    @Override
+    public int deleteByUserId(Long userId) {
+        return jdbcTemplate.update(DELETE_BY_USER, userId);
+    }
+
+    @Override
+    public int deleteExpired(long now) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED, now, DELETE_CHUNK_SIZE);
+            total += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
+        return total;
+    }
+}
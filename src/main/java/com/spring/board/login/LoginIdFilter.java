@@ -0,0 +1,142 @@
+package com.spring.board.login;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가입된 로그인 아이디의 블룸 필터. 필터에 없는 아이디는 중복 조회를 생략하고, 있을 수도 있는 아이디만 DB 에서 확인한다.
+ * 다른 노드에서 가입한 아이디는 이 필터에 없을 수 있으므로 중복의 최종 판단은 users.login_id 유니크 제약이 한다.
+ * 기동 직후 워밍이 끝나기 전에는 모든 아이디를 있을 수도 있다고 답한다.
+ */
+@Slf4j
+@Component
+public class LoginIdFilter {
+
+    private static final String SELECT_LOGIN_IDS = "select login_id from users";
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int fetchSize;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean ready;
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder checked = new LongAdder();
+
+    public LoginIdFilter(JdbcTemplate jdbcTemplate,
+                         @Value("${board.user.login-id-filter.expected-insertions:1000000}") long expectedInsertions,
+                         @Value("${board.user.login-id-filter.fpp:0.01}") double fpp,
+                         @Value("${board.user.login-id-filter.fetch-size:1000}") int fetchSize) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.fetchSize = fetchSize;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long started = System.currentTimeMillis();
+        long[] count = new long[1];
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(SELECT_LOGIN_IDS);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, rs -> {
+            put(rs.getString(1));
+            count[0]++;
+        });
+        markReady();
+        log.info("로그인 아이디 필터 워밍 완료 count={} bits={} hashes={} elapsed={}ms",
+                count[0], bitCount, hashCount, System.currentTimeMillis() - started);
+    }
+
+    public void put(String loginId) {
+        long hash = hash(loginId);
+        long h1 = hash;
+        long h2 = fmix(hash ^ FNV_PRIME) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            setBit(index);
+        }
+    }
+
+    public boolean mightContain(String loginId) {
+        checked.increment();
+        if (!ready) {
+            return true;
+        }
+
+        long hash = hash(loginId);
+        long h1 = hash;
+        long h2 = fmix(hash ^ FNV_PRIME) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                skipped.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getCheckedCount() {
+        return checked.sum();
+    }
+
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return fmix(hash);
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb53fe1a85a63L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
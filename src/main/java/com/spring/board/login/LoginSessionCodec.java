@@ -0,0 +1,68 @@
+package com.spring.board.login;
+
+import com.spring.board.domain.Grade;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 세션 저장용 이진 형식. [형식 버전 1B][만료 시각 8B][회원 id 8B][등급 1B][닉네임 유무 1B + 수정 UTF-8] 으로,
+ * 보통 30바이트 안팎이다. Java 직렬화와 달리 클래스 정보를 싣지 않는다.
+ */
+public class LoginSessionCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte NO_GRADE = -1;
+
+    private LoginSessionCodec() {
+    }
+
+    public static byte[] encode(LoginUser user, long expiresAt) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(expiresAt);
+            out.writeLong(user.getId());
+            out.writeByte(user.getGrade() == null ? NO_GRADE : user.getGrade().ordinal());
+            out.writeBoolean(user.getNickname() != null);
+            if (user.getNickname() != null) {
+                out.writeUTF(user.getNickname());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static LoginSessionEntry decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 세션 형식 version=" + version);
+            }
+            long expiresAt = in.readLong();
+            long id = in.readLong();
+            byte grade = in.readByte();
+            String nickname = in.readBoolean() ? in.readUTF() : null;
+            LoginUser user = new LoginUser(id, nickname, grade == NO_GRADE ? null : Grade.values()[grade]);
+            return new LoginSessionEntry(user, expiresAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 본문을 풀지 않고 만료 시각만 읽는다.
+     */
+    public static long readExpiresAt(byte[] data) {
+        long expiresAt = 0;
+        for (int i = 1; i <= Long.BYTES; i++) {
+            expiresAt = (expiresAt << 8) | (data[i] & 0xff);
+        }
+        return expiresAt;
+    }
+}
@@ -0,0 +1,16 @@
+package com.spring.board.login;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class LoginSessionEntry {
+
+    private final LoginUser user;
+    private final long expiresAt;
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -0,0 +1,25 @@
+package com.spring.board.login;
+
+import java.util.Optional;
+
+/**
+ * 여러 노드가 함께 쓰는 로그인 세션 저장소. 만료 시각은 epoch millis 이며, 만료된 세션은 조회 시점과
+ * 주기적인 정리 작업에서 지운다.
+ */
+public interface LoginSessionRepository {
+
+    void save(String sessionId, LoginUser user, long expiresAt);
+
+    /**
+     * 이미 있는 세션의 만료 시각만 늘린다. 로그아웃으로 지워진 세션은 되살리지 않고 false 를 반환한다.
+     */
+    boolean renew(String sessionId, LoginUser user, long expiresAt);
+
+    Optional<LoginSessionEntry> find(String sessionId);
+
+    void delete(String sessionId);
+
+    int deleteByUserId(Long userId);
+
+    int deleteExpired(long now);
+}
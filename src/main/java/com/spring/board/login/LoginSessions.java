@@ -0,0 +1,218 @@
+package com.spring.board.login;
+
+import com.spring.board.cache.UserSummaryCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.spring.board.Const.LOGIN_USER;
+
+/**
+ * 로그인 세션의 저장과 조회를 맡는다. board.session.store 로 {@link LoginSessionRepository} 구현을 켜면
+ * 세션 id 를 쿠키로 주고받고 저장소에서 읽으며, 켜지 않으면 기존처럼 서블릿 HttpSession 에 저장한다.
+ * 남은 시간이 절반 이하일 때만 만료 시각을 늘려 요청마다 쓰지 않는다. 만료는 저장소의 만료 시각으로만 판단하므로
+ * 쿠키는 JSESSIONID 처럼 Max-Age 없는 세션 쿠키로 내려, 만료 시각을 늘려도 쿠키를 다시 보낼 필요가 없다.
+ * 세션이 남아 있어도 삭제 표시된 회원이면 로그인하지 않은 것으로 본다.
+ */
+@Slf4j
+@Component
+public class LoginSessions {
+
+    public static final String COOKIE_NAME = "BOARD_SESSION";
+
+    private final LoginSessionRepository repository;
+    private final UserSummaryCache userSummaryCache;
+    private final long timeoutMillis;
+    private final SecureRandom random = new SecureRandom();
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder readNanos = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+
+    public LoginSessions(ObjectProvider<LoginSessionRepository> repository, UserSummaryCache userSummaryCache,
+                         @Value("${board.session.timeout:30m}") Duration timeout) {
+        this.repository = repository.getIfAvailable();
+        this.userSummaryCache = userSummaryCache;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public void login(HttpServletRequest request, HttpServletResponse response, LoginUser user) {
+        if (repository == null) {
+            request.getSession().setAttribute(LOGIN_USER, user);
+            return;
+        }
+
+        String sessionId = newSessionId();
+        write(() -> repository.save(sessionId, user, System.currentTimeMillis() + timeoutMillis));
+        writeCookie(response, sessionId, -1);
+        request.setAttribute(LOGIN_USER, user);
+    }
+
+    public LoginUser find(HttpServletRequest request) {
+        Object cached = request.getAttribute(LOGIN_USER);
+        if (cached instanceof LoginUser) {
+            return (LoginUser) cached;
+        }
+
+        LoginUser user = repository == null ? findInHttpSession(request) : findInRepository(request);
+        if (user == null) {
+            return null;
+        }
+        if (userSummaryCache.get(user.getId()) == null) {
+            discard(request);
+            return null;
+        }
+        request.setAttribute(LOGIN_USER, user);
+        return user;
+    }
+
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        request.removeAttribute(LOGIN_USER);
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+
+        if (repository == null) {
+            return;
+        }
+        String sessionId = readCookie(request);
+        if (sessionId != null) {
+            write(() -> repository.delete(sessionId));
+        }
+        writeCookie(response, "", 0);
+    }
+
+    /**
+     * 저장소에 남은 회원의 세션을 모두 지운다. HttpSession 은 다른 요청의 세션을 지울 수 없어 조회 시점에 거른다.
+     */
+    public void logoutAll(Long userId) {
+        if (repository == null) {
+            return;
+        }
+        int[] deleted = new int[1];
+        write(() -> deleted[0] = repository.deleteByUserId(userId));
+        log.info("회원 세션 삭제 userId={} deleted={}", userId, deleted[0]);
+    }
+
+    @Scheduled(fixedDelayString = "${board.session.sweep-millis:600000}")
+    public int sweepExpired() {
+        if (repository == null) {
+            return 0;
+        }
+        int deleted = repository.deleteExpired(System.currentTimeMillis());
+        if (deleted > 0) {
+            log.info("만료 세션 정리 deleted={}", deleted);
+        }
+        return deleted;
+    }
+
+    public long getReadCount() {
+        return reads.sum();
+    }
+
+    public double getAverageReadMicros() {
+        return average(readNanos, reads);
+    }
+
+    public long getWriteCount() {
+        return writes.sum();
+    }
+
+    public double getAverageWriteMicros() {
+        return average(writeNanos, writes);
+    }
+
+    private LoginUser findInHttpSession(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session == null ? null : (LoginUser) session.getAttribute(LOGIN_USER);
+    }
+
+    private LoginUser findInRepository(HttpServletRequest request) {
+        String sessionId = readCookie(request);
+        if (sessionId == null) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        Optional<LoginSessionEntry> entry = repository.find(sessionId);
+        readNanos.add(System.nanoTime() - start);
+        reads.increment();
+
+        long now = System.currentTimeMillis();
+        if (entry.isEmpty()) {
+            return null;
+        }
+        if (entry.get().isExpired(now)) {
+            write(() -> repository.delete(sessionId));
+            return null;
+        }
+        if (entry.get().getExpiresAt() - now < timeoutMillis / 2) {
+            write(() -> repository.renew(sessionId, entry.get().getUser(), now + timeoutMillis));
+        }
+        return entry.get().getUser();
+    }
+
+    private void discard(HttpServletRequest request) {
+        if (repository == null) {
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
+            return;
+        }
+        String sessionId = readCookie(request);
+        if (sessionId != null) {
+            write(() -> repository.delete(sessionId));
+        }
+    }
+
+    private void write(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        writeNanos.add(System.nanoTime() - start);
+        writes.increment();
+    }
+
+    private String readCookie(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        return cookie == null || cookie.getValue().isEmpty() ? null : cookie.getValue();
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, long maxAgeSeconds) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .httpOnly(true)
+                .path("/")
+                .sameSite("Lax")
+                .maxAge(maxAgeSeconds)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private String newSessionId() {
+        byte[] bytes = new byte[24];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static double average(LongAdder nanos, LongAdder count) {
+        long n = count.sum();
+        return n == 0 ? 0 : nanos.sum() / 1_000.0 / n;
+    }
+}
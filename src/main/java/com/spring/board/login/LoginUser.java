@@ -0,0 +1,35 @@
+package com.spring.board.login;
+
+import com.spring.board.domain.Grade;
+import com.spring.board.domain.User;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * 세션에 저장되는 로그인 회원 정보. 엔티티 대신 식별자와 화면 표시에 필요한 값만 담아 세션 크기를 줄이고,
+ * 분리된 엔티티의 지연 로딩 예외를 막는다.
+ */
+@Getter
+@EqualsAndHashCode
+public class LoginUser implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String nickname;
+    private final Grade grade;
+
+    @Builder
+    public LoginUser(Long id, String nickname, Grade grade) {
+        this.id = id;
+        this.nickname = nickname;
+        this.grade = grade;
+    }
+
+    public static LoginUser from(User user) {
+        return new LoginUser(user.getId(), user.getNickname(), user.getGrade());
+    }
+}
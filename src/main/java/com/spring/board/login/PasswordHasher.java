@@ -0,0 +1,209 @@
+package com.spring.board.login;
+
+import com.spring.board.exception.TooManyRequests;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt 해시와 검증을 전용 스레드 풀에서 실행한다. 풀 크기만큼만 CPU 를 쓰고 대기열이 가득 차면
+ * 요청 스레드를 붙잡지 않고 {@link TooManyRequests}(429) 로 바로 거절한다.
+ * BCrypt 형식이 아닌 기존 평문 비밀번호도 검증하며, 호출자는 {@link #needsRehash} 로 재해시 여부를 판단한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+
+    public PasswordHasher(@Value("${board.password.bcrypt-strength:10}") int strength,
+                          @Value("${board.password.pool-size:0}") int poolSize,
+                          @Value("${board.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${board.password.timeout:5s}") Duration timeout) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread thread = new Thread(r, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public String hash(String rawPassword) {
+        return execute(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * 일괄 등록용. 목록을 풀 크기의 절반 이하 조각으로 나눠 해시해 로그인 검증이 쓸 스레드를 남긴다.
+     * 조각마다 여러 건을 해시하므로 건별 대기 시간 제한은 적용하지 않는다.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        int count = rawPasswords.size();
+        if (count == 0) {
+            return List.of();
+        }
+
+        int slices = Math.max(1, Math.min(count, executor.getMaximumPoolSize() / 2));
+        int sliceSize = (count + slices - 1) / slices;
+        String[] hashed = new String[count];
+        List<Future<?>> futures = new ArrayList<>(slices);
+        long submitted = System.nanoTime();
+        try {
+            for (int from = 0; from < count; from += sliceSize) {
+                int start = from;
+                int end = Math.min(count, from + sliceSize);
+                futures.add(executor.submit(() -> {
+                    long started = System.nanoTime();
+                    waitNanos.add((started - submitted) * (end - start));
+                    for (int i = start; i < end; i++) {
+                        hashed[i] = encoder.encode(rawPasswords.get(i));
+                    }
+                    hashNanos.add(System.nanoTime() - started);
+                    completed.add(end - start);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            rejected.increment();
+            log.warn("비밀번호 일괄 해시 대기열 초과 queue={}", executor.getQueue().size());
+            throw new TooManyRequests();
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new TooManyRequests();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        return Arrays.asList(hashed);
+    }
+
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (storedPassword == null) {
+            return false;
+        }
+        if (!isHashed(storedPassword)) {
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return execute(() -> encoder.matches(rawPassword, storedPassword));
+    }
+
+    /**
+     * 평문으로 저장되어 있거나 현재 설정보다 낮은 강도로 해시된 비밀번호다.
+     */
+    public boolean needsRehash(String storedPassword) {
+        return !isHashed(storedPassword) || encoder.upgradeEncoding(storedPassword);
+    }
+
+    public static boolean isHashed(String storedPassword) {
+        return storedPassword != null && storedPassword.length() == 60 && storedPassword.startsWith("$2");
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                waitNanos.add(started - submitted);
+                try {
+                    return task.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - started);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 대기열 초과 queue={}", executor.getQueue().size());
+            throw new TooManyRequests();
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            log.warn("비밀번호 해시 대기 시간 초과 queue={}", executor.getQueue().size());
+            throw new TooManyRequests();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TooManyRequests();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public double getAverageWaitMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getAverageHashMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / count;
+    }
+}
@@ -0,0 +1,110 @@
+package com.spring.board.purge;
+
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.cache.BoardResponseCache;
+import com.spring.board.repository.*;
+import com.spring.board.search.BoardSearchIndex;
+import com.spring.board.trending.TrendingBoardTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 게시글에 딸린 답글, 댓글, 신고, 좋아요를 엔티티로 읽지 않고 chunk-size 행씩 지운다.
+ * chunk 마다 별도 트랜잭션이라 큰 게시글도 한 번에 잡는 잠금이 chunk 크기로 제한된다.
+ */
+@Slf4j
+@Component
+public class BoardPurger {
+
+    private final BoardRepository boardRepository;
+    private final BoardBodyRepository boardBodyRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final ReportRepository reportRepository;
+    private final LikeRepository likeRepository;
+    private final BoardResponseCache boardResponseCache;
+    private final BoardListVersion boardListVersion;
+    private final BoardSearchIndex boardSearchIndex;
+    private final TrendingBoardTracker trendingBoardTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BoardPurger(BoardRepository boardRepository, BoardBodyRepository boardBodyRepository,
+                       CommentRepository commentRepository, ReplyRepository replyRepository,
+                       ReportRepository reportRepository, LikeRepository likeRepository,
+                       BoardResponseCache boardResponseCache, BoardListVersion boardListVersion,
+                       BoardSearchIndex boardSearchIndex, TrendingBoardTracker trendingBoardTracker,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${board.purge.chunk-size:1000}") int chunkSize) {
+        this.boardRepository = boardRepository;
+        this.boardBodyRepository = boardBodyRepository;
+        this.commentRepository = commentRepository;
+        this.replyRepository = replyRepository;
+        this.reportRepository = reportRepository;
+        this.likeRepository = likeRepository;
+        this.boardResponseCache = boardResponseCache;
+        this.boardListVersion = boardListVersion;
+        this.boardSearchIndex = boardSearchIndex;
+        this.trendingBoardTracker = trendingBoardTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public long purge(Long boardId, Long bodyId) {
+        long deleted = deleteContent(boardId) + 1;
+
+        transactionTemplate.executeWithoutResult(status -> deleteBoardRow(boardId, bodyId));
+        log.info("게시글 삭제 boardId={} rows={}", boardId, deleted);
+        return deleted;
+    }
+
+    public long deleteContent(Long boardId) {
+        return deleteInChunks(() -> replyRepository.deleteChunkByBoardId(boardId, chunkSize))
+                + deleteInChunks(() -> commentRepository.deleteChunkByBoardId(boardId, chunkSize))
+                + deleteInChunks(() -> reportRepository.deleteChunkByBoardId(boardId, chunkSize))
+                + deleteInChunks(() -> likeRepository.deleteChunkByBoardId(boardId, chunkSize));
+    }
+
+    /**
+     * 게시글 행을 잠근 뒤 chunk 삭제 이후에 추가된 자식 행을 같은 트랜잭션에서 마저 지우고 게시글을 지운다.
+     * 잠금 이후의 좋아요, 댓글 insert 는 외래 키 검사에서 대기하다 게시글이 없어져 실패한다.
+     */
+    public void deleteBoardRow(Long boardId, Long bodyId) {
+        boardRepository.lockById(boardId);
+        int swept = replyRepository.deleteByBoardId(boardId)
+                + commentRepository.deleteByBoardId(boardId)
+                + reportRepository.deleteByBoardId(boardId)
+                + likeRepository.deleteByBoardId(boardId);
+        if (swept > 0) {
+            log.info("게시글 삭제 중 추가된 자식 행 삭제 boardId={} rows={}", boardId, swept);
+        }
+
+        boardRepository.deleteAllByIdInBatch(List.of(boardId));
+        boardBodyRepository.deleteAllByIdInBatch(List.of(bodyId));
+
+        boardResponseCache.evictAfterCommit(boardId);
+        boardListVersion.bumpAfterCommit();
+        boardSearchIndex.removeAfterCommit(boardId);
+        trendingBoardTracker.removeAfterCommit(boardId);
+    }
+
+    long deleteInChunks(IntSupplier chunk) {
+        long total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> chunk.getAsInt());
+            if (deleted == null || deleted == 0) {
+                return total;
+            }
+            total += deleted;
+            if (deleted < chunkSize) {
+                return total;
+            }
+        }
+    }
+}
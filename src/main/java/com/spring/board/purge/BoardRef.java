@@ -0,0 +1,15 @@
+package com.spring.board.purge;
+
+import lombok.Getter;
+
+@Getter
+public class BoardRef {
+
+    private final Long boardId;
+    private final Long bodyId;
+
+    public BoardRef(Long boardId, Long bodyId) {
+        this.boardId = boardId;
+        this.bodyId = bodyId;
+    }
+}
@@ -0,0 +1,15 @@
+package com.spring.board.purge;
+
+import lombok.Getter;
+
+@Getter
+public class ContentRef {
+
+    private final Long id;
+    private final Long boardId;
+
+    public ContentRef(Long id, Long boardId) {
+        this.id = id;
+        this.boardId = boardId;
+    }
+}
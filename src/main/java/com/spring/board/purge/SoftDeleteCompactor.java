@@ -0,0 +1,72 @@
+package com.spring.board.purge;
+
+import com.spring.board.repository.CommentRepository;
+import com.spring.board.repository.ReplyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 표시 후 grace 가 지난 답글, 댓글, 게시글을 한산한 시간대에 chunk-size 행씩 물리 삭제한다.
+ * 게시글은 딸린 행까지 {@link BoardPurger} 로 지운다.
+ */
+@Slf4j
+@Component
+public class SoftDeleteCompactor {
+
+    private static final String SELECT_DELETED_BOARDS =
+            "select board_id, board_body_id from board where deleted_date < ? order by board_id limit ?";
+    private static final RowMapper<BoardRef> BOARD_MAPPER = (rs, i) -> new BoardRef(rs.getLong(1), rs.getLong(2));
+
+    private final ReplyRepository replyRepository;
+    private final CommentRepository commentRepository;
+    private final BoardPurger boardPurger;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration grace;
+    private final int chunkSize;
+
+    public SoftDeleteCompactor(ReplyRepository replyRepository, CommentRepository commentRepository,
+                               BoardPurger boardPurger, JdbcTemplate jdbcTemplate,
+                               @Value("${board.purge.compact.grace:1h}") Duration grace,
+                               @Value("${board.purge.chunk-size:1000}") int chunkSize) {
+        this.replyRepository = replyRepository;
+        this.commentRepository = commentRepository;
+        this.boardPurger = boardPurger;
+        this.jdbcTemplate = jdbcTemplate;
+        this.grace = grace;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${board.purge.compact.cron:0 0 5 * * *}")
+    public long compact() {
+        return compact(LocalDateTime.now().minus(grace));
+    }
+
+    public long compact(LocalDateTime before) {
+        long replies = boardPurger.deleteInChunks(() -> replyRepository.deleteChunkDeletedBefore(before, chunkSize))
+                + boardPurger.deleteInChunks(() -> replyRepository.deleteChunkOfDeletedComments(before, chunkSize));
+        long comments = boardPurger.deleteInChunks(() -> commentRepository.deleteChunkDeletedBefore(before, chunkSize));
+
+        long boards = 0;
+        List<BoardRef> chunk;
+        do {
+            chunk = jdbcTemplate.query(SELECT_DELETED_BOARDS, BOARD_MAPPER, before, chunkSize);
+            for (BoardRef board : chunk) {
+                boards += boardPurger.purge(board.getBoardId(), board.getBodyId());
+            }
+        } while (chunk.size() == chunkSize);
+
+        long total = replies + comments + boards;
+        if (total > 0) {
+            log.info("삭제 표시 행 정리 replies={} comments={} boardRows={}", replies, comments, boards);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,315 @@
+package com.spring.board.purge;
+
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.cache.BoardResponseCache;
+import com.spring.board.cache.UserSummaryCache;
+import com.spring.board.domain.PurgeStatus;
+import com.spring.board.domain.PurgeStep;
+import com.spring.board.domain.User;
+import com.spring.board.domain.UserPurgeJob;
+import com.spring.board.exception.user.PurgeJobNotFound;
+import com.spring.board.exception.user.UserNotFound;
+import com.spring.board.login.LoginSessions;
+import com.spring.board.repository.*;
+import com.spring.board.search.BoardSearchIndex;
+import com.spring.board.support.AfterCommit;
+import com.spring.board.trending.TrendingBoardTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+import static com.spring.board.domain.PurgeStatus.PENDING;
+import static com.spring.board.domain.PurgeStatus.RUNNING;
+import static com.spring.board.domain.PurgeStep.BOARDS;
+import static com.spring.board.domain.PurgeStep.USER;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * 회원 삭제를 작업 행으로 남기고 백그라운드에서 처리한다. 회원과 회원의 게시글은 요청 트랜잭션에서 바로 삭제 표시되고
+ * 저장된 로그인 세션도 지워, 정리하는 동안 삭제된 회원이 새 글을 남기지 못한다. 이후
+ * 작성한 게시글과 다른 게시글에 남긴 답글, 댓글, 좋아요, 신고를 chunk-size 행씩 별도 트랜잭션으로 지운다.
+ * 단계와 지운 행 수는 chunk 와 같은 트랜잭션에 기록되므로 재시작 후 주기 실행이 남은 단계부터 이어 간다.
+ * 삭제 표시된 게시글, 댓글, 답글도 지워야 하므로 대상은 JPQL 대신 SQL 로 찾는다.
+ */
+@Slf4j
+@Component
+public class UserPurger {
+
+    private static final List<PurgeStatus> UNFINISHED = List.of(PENDING, RUNNING);
+
+    private static final String SELECT_BOARDS =
+            "select board_id, board_body_id from board where user_id = ? order by board_id limit ?";
+    private static final String SELECT_REPLIES =
+            "select reply_id, board_id from reply where user_id = ? order by reply_id limit ?";
+    private static final String SELECT_COMMENTS =
+            "select comment_id, board_id from comment where user_id = ? order by comment_id limit ?";
+    private static final String SELECT_LIKES =
+            "select like_id, board_id from likes where user_id = ? order by like_id limit ?";
+    private static final String SELECT_REPORTS =
+            "select report_id, board_id from report where user_id = ? order by report_id limit ?";
+    private static final RowMapper<BoardRef> BOARD_MAPPER = (rs, i) -> new BoardRef(rs.getLong(1), rs.getLong(2));
+    private static final RowMapper<ContentRef> REF_MAPPER = (rs, i) -> new ContentRef(rs.getLong(1), rs.getLong(2));
+
+    private final UserRepository userRepository;
+    private final UserPurgeJobRepository userPurgeJobRepository;
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final LikeRepository likeRepository;
+    private final ReportRepository reportRepository;
+    private final BoardPurger boardPurger;
+    private final BoardResponseCache boardResponseCache;
+    private final BoardListVersion boardListVersion;
+    private final UserSummaryCache userSummaryCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final TrendingBoardTracker trendingBoardTracker;
+    private final LoginSessions loginSessions;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "user-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserPurger(UserRepository userRepository, UserPurgeJobRepository userPurgeJobRepository,
+                      BoardRepository boardRepository, CommentRepository commentRepository,
+                      ReplyRepository replyRepository, LikeRepository likeRepository,
+                      ReportRepository reportRepository, BoardPurger boardPurger,
+                      BoardResponseCache boardResponseCache, BoardListVersion boardListVersion,
+                      UserSummaryCache userSummaryCache, BoardSearchIndex boardSearchIndex,
+                      TrendingBoardTracker trendingBoardTracker, LoginSessions loginSessions,
+                      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                      @Value("${board.purge.chunk-size:1000}") int chunkSize,
+                      @Value("${board.purge.user.max-attempts:5}") int maxAttempts) {
+        this.userRepository = userRepository;
+        this.userPurgeJobRepository = userPurgeJobRepository;
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.replyRepository = replyRepository;
+        this.likeRepository = likeRepository;
+        this.reportRepository = reportRepository;
+        this.boardPurger = boardPurger;
+        this.boardResponseCache = boardResponseCache;
+        this.boardListVersion = boardListVersion;
+        this.userSummaryCache = userSummaryCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.trendingBoardTracker = trendingBoardTracker;
+        this.loginSessions = loginSessions;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public UserPurgeJob schedule(User user) {
+        if (user.isDeleted()) {
+            throw new UserNotFound();
+        }
+
+        user.markDeleted();
+        hideBoards(user.getId());
+        UserPurgeJob job = userPurgeJobRepository.save(new UserPurgeJob(user.getId()));
+        AfterCommit.run(() -> loginSessions.logoutAll(user.getId()));
+        AfterCommit.run(this::runAsync);
+        return job;
+    }
+
+    private void hideBoards(Long userId) {
+        List<Long> boardIds = boardRepository.findIdsByUserId(userId);
+        if (boardIds.isEmpty()) {
+            return;
+        }
+
+        boardRepository.softDeleteByUserId(userId, LocalDateTime.now());
+        for (Long boardId : boardIds) {
+            boardResponseCache.evictAfterCommit(boardId);
+            boardSearchIndex.removeAfterCommit(boardId);
+            trendingBoardTracker.removeAfterCommit(boardId);
+        }
+        boardListVersion.bumpAfterCommit();
+    }
+
+    public UserPurgeJob getJob(Long jobId) {
+        return userPurgeJobRepository.findById(jobId)
+                .orElseThrow(PurgeJobNotFound::new);
+    }
+
+    @Scheduled(fixedDelayString = "${board.purge.user.poll-millis:60000}")
+    public synchronized int runPending() {
+        List<UserPurgeJob> jobs = userPurgeJobRepository.findByStatusInOrderById(UNFINISHED);
+        jobs.forEach(job -> run(job.getId(), job.getUserId()));
+        return jobs.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void runAsync() {
+        try {
+            executor.execute(this::runPending);
+        } catch (RejectedExecutionException e) {
+            log.warn("회원 삭제 작업 실행 보류, 다음 주기에 처리합니다.");
+        }
+    }
+
+    private void run(Long jobId, Long userId) {
+        PurgeStep step = transactionTemplate.execute(status -> {
+            UserPurgeJob job = getJob(jobId);
+            job.start();
+            return job.getStep();
+        });
+
+        try {
+            purge(jobId, userId, step);
+            log.info("회원 삭제 완료 jobId={} userId={}", jobId, userId);
+        } catch (RuntimeException e) {
+            log.error("회원 삭제 작업 실패 jobId={} userId={}", jobId, userId, e);
+            transactionTemplate.executeWithoutResult(status -> {
+                UserPurgeJob job = getJob(jobId);
+                if (e instanceof DataIntegrityViolationException) {
+                    job.moveTo(BOARDS);
+                }
+                job.fail(e.getMessage(), maxAttempts);
+            });
+        }
+    }
+
+    private void purge(Long jobId, Long userId, PurgeStep from) {
+        for (PurgeStep step = from; step != USER; ) {
+            long deleted;
+            do {
+                deleted = deleteChunk(jobId, userId, step);
+            } while (deleted > 0);
+
+            PurgeStep next = step.next();
+            transactionTemplate.executeWithoutResult(status -> getJob(jobId).moveTo(next));
+            step = next;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.deleteAllByIdInBatch(List.of(userId));
+            UserPurgeJob job = getJob(jobId);
+            job.progress(1);
+            job.done();
+        });
+        userSummaryCache.evict(userId);
+    }
+
+    private long deleteChunk(Long jobId, Long userId, PurgeStep step) {
+        switch (step) {
+            case BOARDS:
+                return deleteBoards(jobId, userId);
+            case REPLIES:
+                return inJob(jobId, () -> deleteReplies(userId));
+            case COMMENTS:
+                return inJob(jobId, () -> deleteComments(userId));
+            case LIKES:
+                return inJob(jobId, () -> deleteLikes(userId));
+            case REPORTS:
+                return inJob(jobId, () -> deleteReports(userId));
+            default:
+                return 0;
+        }
+    }
+
+    private long deleteBoards(Long jobId, Long userId) {
+        List<BoardRef> boards = jdbcTemplate.query(SELECT_BOARDS, BOARD_MAPPER, userId, chunkSize);
+        for (BoardRef board : boards) {
+            long content = boardPurger.deleteContent(board.getBoardId());
+            inJob(jobId, () -> {
+                boardPurger.deleteBoardRow(board.getBoardId(), board.getBodyId());
+                return content + 1;
+            });
+        }
+        return boards.size();
+    }
+
+    private long deleteReplies(Long userId) {
+        List<ContentRef> refs = findRefs(SELECT_REPLIES, userId);
+        if (!refs.isEmpty()) {
+            replyRepository.deleteAllByIdInBatch(ids(refs));
+            reconcile(refs);
+        }
+        return refs.size();
+    }
+
+    private long deleteComments(Long userId) {
+        List<ContentRef> refs = findRefs(SELECT_COMMENTS, userId);
+        if (refs.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> commentIds = ids(refs);
+        long replies = replyRepository.deleteByCommentIds(commentIds);
+        commentRepository.deleteAllByIdInBatch(commentIds);
+        reconcile(refs);
+        return refs.size() + replies;
+    }
+
+    private long deleteLikes(Long userId) {
+        List<ContentRef> refs = findRefs(SELECT_LIKES, userId);
+        if (!refs.isEmpty()) {
+            likeRepository.deleteAllByIdInBatch(ids(refs));
+            reconcile(refs);
+        }
+        return refs.size();
+    }
+
+    private long deleteReports(Long userId) {
+        List<ContentRef> refs = findRefs(SELECT_REPORTS, userId);
+        if (!refs.isEmpty()) {
+            reportRepository.deleteAllByIdInBatch(ids(refs));
+            reconcile(refs);
+        }
+        return refs.size();
+    }
+
+    private List<ContentRef> findRefs(String sql, Long userId) {
+        return jdbcTemplate.query(sql, REF_MAPPER, userId, chunkSize);
+    }
+
+    private void reconcile(List<ContentRef> refs) {
+        Set<Long> boardIds = refs.stream()
+                .map(ContentRef::getBoardId)
+                .collect(toSet());
+        boardRepository.reconcileCounts(boardIds);
+        boardIds.forEach(boardResponseCache::evictAfterCommit);
+        boardListVersion.bumpAfterCommit();
+    }
+
+    private long inJob(Long jobId, LongSupplier chunk) {
+        Long deleted = transactionTemplate.execute(status -> {
+            long rows = chunk.getAsLong();
+            getJob(jobId).progress(rows);
+            return rows;
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private static List<Long> ids(List<ContentRef> refs) {
+        return refs.stream()
+                .map(ContentRef::getId)
+                .collect(toList());
+    }
+}
@@ -0,0 +1,7 @@
+package com.spring.board.repository;
+
+import com.spring.board.domain.BoardBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BoardBodyRepository extends JpaRepository<BoardBody, Long> {
+}
@@ -1,25 +1,125 @@
 package com.spring.board.repository;
 
 import com.spring.board.domain.Board;
+import com.spring.board.like.LikeTarget;
+import com.spring.board.response.board.BoardsResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
+    @Query(value = "select board_id from board where board_id = :id for update", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
     @Query(value = "select b from Board b join fetch b.user where b.title like %:title%")
     List<Board> findByTitleContaining(@Param("title") String title, Pageable pageable);
 
     @Query(value = "select b from Board b join fetch b.user")
     List<Board> findBoardWithUser(Pageable pageable);
 
-    @Query(value = "select b from Board b join fetch b.user left join fetch b.comments where b.id =:id")
+    @Query(value = "select new com.spring.board.response.board.BoardsResponse(b.user.id, b.id, b.title, b.preview, " +
+            "b.commentCount, b.replyCount, b.likeCount, b.reportCount) " +
+            "from Board b")
+    List<BoardsResponse> findBoardList(Pageable pageable);
+
+    @Query(value = "select new com.spring.board.response.board.BoardsResponse(b.user.id, b.id, b.title, b.preview, " +
+            "b.commentCount, b.replyCount, b.likeCount, b.reportCount) " +
+            "from Board b where b.id < :cursor order by b.id desc")
+    List<BoardsResponse> findBoardListByCursor(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query(value = "select new com.spring.board.response.board.BoardsResponse(b.user.id, b.id, b.title, b.preview, " +
+            "b.commentCount, b.replyCount, b.likeCount, b.reportCount) " +
+            "from Board b where b.title like %:title%")
+    List<BoardsResponse> findBoardListByTitle(@Param("title") String title, Pageable pageable);
+
+    @Query(value = "select new com.spring.board.response.board.BoardsResponse(b.user.id, b.id, b.title, b.preview, " +
+            "b.commentCount, b.replyCount, b.likeCount, b.reportCount) " +
+            "from Board b where b.title like %:title% and b.id < :cursor order by b.id desc")
+    List<BoardsResponse> findBoardListByTitleAndCursor(@Param("title") String title, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query(value = "select new com.spring.board.response.board.BoardsResponse(b.user.id, b.id, b.title, b.preview, " +
+            "b.commentCount, b.replyCount, b.likeCount, b.reportCount) " +
+            "from Board b where b.id in :ids")
+    List<BoardsResponse> findBoardListByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "select b from Board b join fetch b.body where b.id > :cursor order by b.id")
+    List<Board> findForIndex(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query(value = "select b from Board b join fetch b.body where b.id =:id")
+    Optional<Board> findWithBody(@Param("id") Long id);
+
+    @Query(value = "select b from Board b join fetch b.body left join fetch b.comments where b.id =:id")
     Optional<Board> findWithAll(@Param("id") Long id);
 
     List<Board> findByUserId(Long id);
 
+    @Query(value = "select new com.spring.board.like.LikeTarget(b.title, b.preview, b.user.id) from Board b where b.id = :boardId")
+    Optional<LikeTarget> findLikeTarget(@Param("boardId") Long boardId);
+
+    @Query(value = "select b.id from Board b where b.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "select b.changeStamp from Board b where b.id = :id")
+    Optional<Long> findChangeStamp(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update Board b set b.changeStamp = b.changeStamp + 1 where b.id = :id")
+    int touch(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update Board b set b.deletedDate = :now where b.id = :id and b.deletedDate is null")
+    int softDelete(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query(value = "select b.id from Board b where b.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "update Board b set b.deletedDate = :now where b.user.id = :userId and b.deletedDate is null")
+    int softDeleteByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "update Board b set b.commentCount = b.commentCount + :delta, " +
+            "b.changeStamp = b.changeStamp + 1 where b.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "update Board b set b.replyCount = b.replyCount + :delta, " +
+            "b.changeStamp = b.changeStamp + 1 where b.id = :id")
+    int addReplyCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "update Board b set b.likeCount = b.likeCount + :delta where b.id = :id")
+    int addLikeCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "update Board b set b.reportCount = b.reportCount + :delta where b.id = :id")
+    int addReportCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query(value = "select b.id from Board b where b.id > :cursor order by b.id")
+    List<Long> findIdsAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query(value = "select b.id from Board b where b.id in :ids and (" +
+            "b.commentCount <> (select count(c) from Comment c where c.board = b) or " +
+            "b.replyCount <> (select count(r) from Reply r where r.board = b) or " +
+            "b.likeCount <> (select count(l) from Like l where l.board = b) or " +
+            "b.reportCount <> (select count(p) from Report p where p.board = b))")
+    List<Long> findCountDrift(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update Board b set " +
+            "b.commentCount = (select count(c) from Comment c where c.board.id = b.id), " +
+            "b.replyCount = (select count(r) from Reply r where r.board.id = b.id), " +
+            "b.likeCount = (select count(l) from Like l where l.board.id = b.id), " +
+            "b.reportCount = (select count(p) from Report p where p.board.id = b.id) " +
+            "where b.id in :ids")
+    int reconcileCounts(@Param("ids") Collection<Long> ids);
+
 }
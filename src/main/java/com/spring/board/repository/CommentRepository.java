@@ -1,10 +1,14 @@
 package com.spring.board.repository;
 
 import com.spring.board.domain.Comment;
+import com.spring.board.trending.BoardActivity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +18,27 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Optional<Comment> findCommentWithUserAndBoard(@Param("id") Long id);
 
     List<Comment> findByBoardId(Long id);
+
+    @Modifying
+    @Query(value = "delete from comment where board_id = :boardId limit :limit", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from Comment c where c.board.id = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query(value = "update Comment c set c.deletedDate = :now where c.id = :id and c.deletedDate is null")
+    int softDelete(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "delete from comment where deleted_date < :before limit :limit", nativeQuery = true)
+    int deleteChunkDeletedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Query(value = "select c from Comment c where c.board.id = :boardId and c.id > :cursor order by c.id")
+    List<Comment> findPageByBoardId(@Param("boardId") Long boardId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query(value = "select new com.spring.board.trending.BoardActivity(c.board.id, c.createdDate) " +
+            "from Comment c where c.createdDate >= :since")
+    List<BoardActivity> findActivitySince(@Param("since") LocalDateTime since);
 }
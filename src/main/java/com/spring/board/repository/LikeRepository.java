@@ -1,8 +1,13 @@
 package com.spring.board.repository;
 
 import com.spring.board.domain.Like;
+import com.spring.board.trending.BoardActivity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +15,20 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     Optional<Like> findByBoardIdAndUserId(Long boardId, Long userId);
 
-    List<Like> findByUserId(Long userId);
+    boolean existsByBoardIdAndUserId(Long boardId, Long userId);
+
+    @Query(value = "select l from Like l join fetch l.board b where l.user.id = :userId and b.deletedDate is null")
+    List<Like> findByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "delete from likes where board_id = :boardId limit :limit", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from Like l where l.board.id = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+
+    @Query(value = "select new com.spring.board.trending.BoardActivity(l.board.id, l.createdDate) " +
+            "from Like l where l.createdDate >= :since")
+    List<BoardActivity> findActivitySince(@Param("since") LocalDateTime since);
 }
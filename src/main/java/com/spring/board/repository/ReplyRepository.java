@@ -1,13 +1,66 @@
 package com.spring.board.repository;
 
 import com.spring.board.domain.Reply;
+import com.spring.board.trending.BoardActivity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
 
     List<Reply> findByBoardId(Long id);
 
+    @Query(value = "select r from Reply r join fetch r.user join fetch r.board join fetch r.comment where r.id = :id")
+    Optional<Reply> findReplyWithUserAndParents(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "delete from reply where board_id = :boardId limit :limit", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from Reply r where r.board.id = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query(value = "update Reply r set r.deletedDate = :now where r.id = :id and r.deletedDate is null")
+    int softDelete(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "update Reply r set r.deletedDate = :now where r.comment.id = :commentId and r.deletedDate is null")
+    int softDeleteByCommentId(@Param("commentId") Long commentId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "delete from reply where deleted_date < :before limit :limit", nativeQuery = true)
+    int deleteChunkDeletedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from reply where comment_id in " +
+            "(select comment_id from comment where deleted_date < :before) limit :limit", nativeQuery = true)
+    int deleteChunkOfDeletedComments(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from Reply r where r.comment.id in :commentIds")
+    int deleteByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
     List<Reply> findByCommentId(Long id);
+
+    @Query(value = "select r from Reply r where r.comment.id = :commentId and r.id > :cursor order by r.id")
+    List<Reply> findPageByCommentId(@Param("commentId") Long commentId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query(value = "select r.* from reply r " +
+            "join (select reply_id, row_number() over (partition by comment_id order by reply_id) as rn " +
+            "from reply where comment_id in (:commentIds) and deleted_date is null) ranked on r.reply_id = ranked.reply_id " +
+            "where ranked.rn <= :limit order by r.comment_id, r.reply_id", nativeQuery = true)
+    List<Reply> findFirstRepliesByCommentIds(@Param("commentIds") Collection<Long> commentIds, @Param("limit") int limit);
+
+    @Query(value = "select new com.spring.board.trending.BoardActivity(r.board.id, r.createdDate) " +
+            "from Reply r where r.createdDate >= :since")
+    List<BoardActivity> findActivitySince(@Param("since") LocalDateTime since);
 }
@@ -3,20 +3,27 @@ package com.spring.board.repository;
 import com.spring.board.domain.Report;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
-    Optional<Report> findByBoardIdAndUserId(Long boardId, Long userId);
-
     List<Report> findByBoardId(Long boardId);
 
+    @Modifying
+    @Query(value = "delete from report where board_id = :boardId limit :limit", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from Report r where r.board.id = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+
     List<Report> findByUserId(Long userId);
 
-    @Query(value = "select r from Report r join fetch r.board")
+    @Query(value = "select r from Report r join fetch r.board b where b.deletedDate is null")
     List<Report> findWithBoard(Pageable pageable);
 
 }
@@ -0,0 +1,13 @@
+package com.spring.board.repository;
+
+import com.spring.board.domain.PurgeStatus;
+import com.spring.board.domain.UserPurgeJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserPurgeJobRepository extends JpaRepository<UserPurgeJob, Long> {
+
+    List<UserPurgeJob> findByStatusInOrderById(Collection<PurgeStatus> statuses);
+}
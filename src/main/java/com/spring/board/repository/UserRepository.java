@@ -1,11 +1,16 @@
 package com.spring.board.repository;
 
+import com.spring.board.cache.UserSummary;
+import com.spring.board.domain.Grade;
 import com.spring.board.domain.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +20,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByNickname(String nickname);
 
-    @Query(value = "select u from User u join fetch u.boards where u.id =:id")
-    Optional<User> findUserWithBoards(@Param("id") Long id);
+    @Modifying
+    @Query(value = "update User u set u.boardCount = u.boardCount + :delta where u.id = :id")
+    int addBoardCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query(value = "select u.boardCount from User u where u.id = :id")
+    int findBoardCount(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update User u set u.grade = :grade where u.id = :id and u.grade in :lowerGrades")
+    int upgradeGrade(@Param("id") Long id, @Param("grade") Grade grade, @Param("lowerGrades") Collection<Grade> lowerGrades);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update User u set u.password = :hashed where u.id = :id and u.password = :current")
+    int updatePassword(@Param("id") Long id, @Param("current") String current, @Param("hashed") String hashed);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update User u set u.password = :hashed where u.id = :id and u.deleted = false")
+    int changePassword(@Param("id") Long id, @Param("hashed") String hashed);
+
+    @Query(value = "select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "select new com.spring.board.cache.UserSummary(u.id, u.nickname, u.grade) from User u " +
+            "where u.id in :ids and u.deleted = false")
+    List<UserSummary> findSummaries(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "select u.loginId from User u where u.loginId in :loginIds")
+    List<String> findExistingLoginIds(@Param("loginIds") Collection<String> loginIds);
 
     @Query(value = "select u from User u")
     List<User> findAllWithPaging(Pageable pageable);
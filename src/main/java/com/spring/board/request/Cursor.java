@@ -0,0 +1,45 @@
+package com.spring.board.request;
+
+import com.spring.board.exception.InvalidRequest;
+
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class Cursor {
+
+    public static final int MAX_SIZE = 100;
+
+    private Cursor() {
+    }
+
+    public static String encode(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(UTF_8));
+    }
+
+    public static Long decode(String cursor) {
+        return decode(cursor, Long.MAX_VALUE);
+    }
+
+    public static Long decode(String cursor, long first) {
+        if (cursor == null || cursor.isBlank()) {
+            return first;
+        }
+
+        try {
+            String id = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            return Long.parseLong(id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequest();
+        }
+    }
+
+    public static int limit(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+}
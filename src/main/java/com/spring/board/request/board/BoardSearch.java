@@ -0,0 +1,10 @@
+package com.spring.board.request.board;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+public class BoardSearch {
+
+    private String title;
+}
@@ -14,4 +14,6 @@ public class EditBoardRequest {
 
     @NotBlank(message = "내용을 입력하세요.")
     private String content;
+
+    private Long version;
 }
@@ -0,0 +1,21 @@
+package com.spring.board.request.board;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+public class ImportBoardRequest {
+
+    @NotNull(message = "작성자를 입력하세요.")
+    private Long userId;
+
+    @NotBlank(message = "제목을 입력하세요.")
+    private String title;
+
+    @NotBlank(message = "내용을 입력하세요.")
+    private String content;
+}
@@ -11,4 +11,6 @@ public class EditCommentRequest {
 
     @NotBlank(message = "댓글을 입력하세요.")
     private String comment;
+
+    private Long version;
 }
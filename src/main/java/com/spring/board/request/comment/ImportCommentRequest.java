@@ -0,0 +1,21 @@
+package com.spring.board.request.comment;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+public class ImportCommentRequest {
+
+    @NotNull(message = "게시글을 입력하세요.")
+    private Long boardId;
+
+    @NotNull(message = "작성자를 입력하세요.")
+    private Long userId;
+
+    @NotBlank(message = "댓글을 입력하세요.")
+    private String comment;
+}
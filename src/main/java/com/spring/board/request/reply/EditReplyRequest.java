@@ -11,4 +11,6 @@ public class EditReplyRequest {
 
     @NotBlank(message = "대댓글을 입력하세요.")
     private String reply;
+
+    private Long version;
 }
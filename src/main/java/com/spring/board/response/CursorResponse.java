@@ -0,0 +1,31 @@
+package com.spring.board.response;
+
+import com.spring.board.request.Cursor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> contents;
+    private final String nextCursor;
+
+    public CursorResponse(List<T> contents, String nextCursor) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <E, T> CursorResponse<T> of(List<E> rows, int limit, Function<E, Long> id, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? Cursor.encode(id.apply(page.get(page.size() - 1))) : null;
+
+        return new CursorResponse<>(page.stream()
+                .map(mapper)
+                .collect(toList()), nextCursor);
+    }
+}
@@ -0,0 +1,35 @@
+package com.spring.board.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ImportResponse {
+
+    private final long imported;
+    private final long rejected;
+    private final long elapsedMillis;
+    private final long rowsPerSecond;
+    private final List<Reject> rejects;
+
+    public ImportResponse(long imported, long rejected, long elapsedMillis, List<Reject> rejects) {
+        this.imported = imported;
+        this.rejected = rejected;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = elapsedMillis == 0 ? imported : imported * 1000 / elapsedMillis;
+        this.rejects = rejects;
+    }
+
+    @Getter
+    public static class Reject {
+
+        private final long line;
+        private final String reason;
+
+        public Reject(long line, String reason) {
+            this.line = line;
+            this.reason = reason;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.spring.board.response.board;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.spring.board.response.comment.CommentExportResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardExportResponse {
+
+    private final Long boardId;
+    private final Long userId;
+    private final String nickname;
+    private final String title;
+    private final String content;
+    private final int commentCount;
+    private final int replyCount;
+    private final int likeCount;
+    private final int reportCount;
+    private final List<CommentExportResponse> comments;
+
+    @Builder
+    public BoardExportResponse(Long boardId, Long userId, String nickname, String title, String content,
+                               int commentCount, int replyCount, int likeCount, int reportCount,
+                               List<CommentExportResponse> comments) {
+        this.boardId = boardId;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.title = title;
+        this.content = content;
+        this.commentCount = commentCount;
+        this.replyCount = replyCount;
+        this.likeCount = likeCount;
+        this.reportCount = reportCount;
+        this.comments = comments;
+    }
+}
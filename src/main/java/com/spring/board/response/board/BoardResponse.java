@@ -1,5 +1,6 @@
 package com.spring.board.response.board;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.spring.board.response.comment.CommentDto;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,13 +15,22 @@ public class BoardResponse {
     private final String title;
     private final String content;
     private final List<CommentDto> comments;
+    private final String nextCommentCursor;
+    private final Long version;
+
+    @JsonIgnore
+    private final long changeStamp;
 
     @Builder
-    public BoardResponse(String nickname, Long boardId, String title, String content, List<CommentDto> comments) {
+    public BoardResponse(String nickname, Long boardId, String title, String content, List<CommentDto> comments,
+                         String nextCommentCursor, Long version, long changeStamp) {
         this.nickname = nickname;
         this.boardId = boardId;
         this.title = title;
         this.content = content;
         this.comments = comments;
+        this.nextCommentCursor = nextCommentCursor;
+        this.version = version;
+        this.changeStamp = changeStamp;
     }
 }
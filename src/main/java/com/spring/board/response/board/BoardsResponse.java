@@ -1,21 +1,48 @@
 package com.spring.board.response.board;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.spring.board.cache.UserSummary;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 public class BoardsResponse {
 
+    @JsonIgnore
+    private final Long userId;
     private final String userNickname;
     private final Long boardId;
     private final String title;
     private final String content;
+    private final int commentCount;
+    private final int replyCount;
+    private final int likeCount;
+    private final int reportCount;
 
     @Builder
-    public BoardsResponse(String userNickname, Long boardId, String title, String content) {
+    public BoardsResponse(Long userId, String userNickname, Long boardId, String title, String content,
+                          int commentCount, int replyCount, int likeCount, int reportCount) {
+        this.userId = userId;
         this.userNickname = userNickname;
         this.boardId = boardId;
         this.title = title;
         this.content = content;
+        this.commentCount = commentCount;
+        this.replyCount = replyCount;
+        this.likeCount = likeCount;
+        this.reportCount = reportCount;
+    }
+
+    /**
+     * 목록 조회는 users 를 조인하지 않고 작성자 id 만 읽는다. 닉네임은 {@link #withUser} 로 채운다.
+     */
+    public BoardsResponse(Long userId, Long boardId, String title, String content,
+                          int commentCount, int replyCount, int likeCount, int reportCount) {
+        this(userId, null, boardId, title, content, commentCount, replyCount, likeCount, reportCount);
+    }
+
+    public BoardsResponse withUser(UserSummary user) {
+        return new BoardsResponse(userId, user == null ? null : user.getNickname(), boardId, title, content,
+                commentCount, replyCount, likeCount, reportCount);
     }
 }
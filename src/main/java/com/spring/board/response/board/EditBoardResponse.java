@@ -8,10 +8,12 @@ public class EditBoardResponse {
 
     private final String title;
     private final String content;
+    private final Long version;
 
     @Builder
-    public EditBoardResponse(String title, String content) {
+    public EditBoardResponse(String title, String content, Long version) {
         this.title = title;
         this.content = content;
+        this.version = version;
     }
 }
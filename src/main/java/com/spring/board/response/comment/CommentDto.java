@@ -9,6 +9,9 @@ import java.util.List;
 @Getter
 @RequiredArgsConstructor
 public class CommentDto {
+    private final Long commentId;
     private final String comment;
+    private final Long version;
     private final List<ReplyDto> replies;
+    private final String nextReplyCursor;
 }
@@ -0,0 +1,12 @@
+package com.spring.board.response.comment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CommentExportResponse {
+    private final Long commentId;
+    private final Long userId;
+    private final String comment;
+}
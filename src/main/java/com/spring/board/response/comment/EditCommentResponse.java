@@ -7,4 +7,5 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EditCommentResponse {
     private final String comment;
+    private final Long version;
 }
@@ -8,4 +8,5 @@ import lombok.RequiredArgsConstructor;
 public class EditReplyResponse {
     private final String nickname;
     private final String reply;
+    private final Long version;
 }
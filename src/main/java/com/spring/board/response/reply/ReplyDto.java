@@ -6,5 +6,7 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public class ReplyDto {
+    private final Long replyId;
     private final String reply;
+    private final Long version;
 }
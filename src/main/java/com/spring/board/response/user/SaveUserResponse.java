@@ -9,13 +9,11 @@ public class SaveUserResponse {
     private final Long id;
     private final String nickname;
     private final String loginId;
-    private final String password;
 
     @Builder
-    public SaveUserResponse(Long id, String nickname, String loginId, String password) {
+    public SaveUserResponse(Long id, String nickname, String loginId) {
         this.id = id;
         this.nickname = nickname;
         this.loginId = loginId;
-        this.password = password;
     }
 }
@@ -0,0 +1,28 @@
+package com.spring.board.response.user;
+
+import com.spring.board.domain.PurgeStatus;
+import com.spring.board.domain.PurgeStep;
+import com.spring.board.domain.UserPurgeJob;
+import lombok.Getter;
+
+@Getter
+public class UserPurgeJobResponse {
+
+    private final Long jobId;
+    private final Long userId;
+    private final PurgeStatus status;
+    private final PurgeStep step;
+    private final long deletedRows;
+    private final int attempts;
+    private final String lastError;
+
+    public UserPurgeJobResponse(UserPurgeJob job) {
+        this.jobId = job.getId();
+        this.userId = job.getUserId();
+        this.status = job.getStatus();
+        this.step = job.getStep();
+        this.deletedRows = job.getDeletedRows();
+        this.attempts = job.getAttempts();
+        this.lastError = job.getLastError();
+    }
+}
@@ -0,0 +1,113 @@
+package com.spring.board.search;
+
+import com.spring.board.domain.Board;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.support.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class BoardSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1_000;
+
+    private final BoardRepository boardRepository;
+    private final boolean enabled;
+    private final InvertedIndex index = new InvertedIndex();
+    private final Set<Long> updatedDuringRebuild = new HashSet<>();
+
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public BoardSearchIndex(BoardRepository boardRepository,
+                            @Value("${board.search.index.enabled:true}") boolean enabled) {
+        this.boardRepository = boardRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        ready = false;
+        synchronized (updatedDuringRebuild) {
+            rebuilding = true;
+            updatedDuringRebuild.clear();
+            index.clear();
+        }
+
+        try {
+            Long cursor = 0L;
+            List<Board> boards;
+            do {
+                boards = boardRepository.findForIndex(cursor, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (Board board : boards) {
+                    synchronized (updatedDuringRebuild) {
+                        if (!updatedDuringRebuild.contains(board.getId())) {
+                            index.index(board.getId(), board.getTitle(), board.getContent());
+                        }
+                    }
+                }
+                if (!boards.isEmpty()) {
+                    cursor = boards.get(boards.size() - 1).getId();
+                }
+            } while (boards.size() == REBUILD_PAGE_SIZE);
+
+            ready = true;
+            log.info("게시글 검색 색인 완료 documents={} elapsed={}ms", index.documentCount(), System.currentTimeMillis() - start);
+        } finally {
+            synchronized (updatedDuringRebuild) {
+                rebuilding = false;
+                updatedDuringRebuild.clear();
+            }
+        }
+    }
+
+    public void indexAfterCommit(Long boardId, String title, String content) {
+        if (enabled) {
+            AfterCommit.run(() -> apply(boardId, () -> index.index(boardId, title, content)));
+        }
+    }
+
+    public void removeAfterCommit(Long boardId) {
+        if (enabled) {
+            AfterCommit.run(() -> apply(boardId, () -> index.remove(boardId)));
+        }
+    }
+
+    public Optional<List<Long>> search(String query, long offset, int limit) {
+        if (!ready || !NGramTokenizer.isSearchable(query)) {
+            return Optional.empty();
+        }
+        return Optional.of(index.search(query, offset, limit));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 재색인 중이면 갱신된 id 를 기록하고, 재색인이 같은 문서를 옛 내용으로 덮어쓰지 않도록 같은 락 안에서 반영한다.
+     */
+    private void apply(Long boardId, Runnable write) {
+        synchronized (updatedDuringRebuild) {
+            if (rebuilding) {
+                updatedDuringRebuild.add(boardId);
+            }
+            write.run();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.spring.board.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InvertedIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MAX_WEIGHT = 1 << 16;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, String[]> documentTerms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(long docId, String title, String content) {
+        Map<String, Integer> weights = new HashMap<>();
+        NGramTokenizer.tokenize(title).forEach(t -> weights.merge(t, TITLE_WEIGHT, Integer::sum));
+        NGramTokenizer.tokenize(content).forEach(t -> weights.merge(t, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new PostingList())
+                    .add(docId, Math.min(weight, MAX_WEIGHT)));
+            documentTerms.put(docId, weights.keySet().toArray(new String[0]));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, long offset, int limit) {
+        Set<String> terms = NGramTokenizer.queryTerms(query);
+        if (terms.isEmpty() || limit <= 0 || offset + limit > Integer.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return Collections.emptyList();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            PostingList rarest = lists.get(0);
+            long[] ids = new long[rarest.size()];
+            long[] scores = new long[rarest.size()];
+            int count = rarest.decodeInto(ids, scores);
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                count = lists.get(i).intersect(ids, scores, count);
+            }
+
+            return topHits(ids, scores, count, (int) offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> topHits(long[] ids, long[] scores, int count, int offset, int limit) {
+        int wanted = Math.min(offset + limit, count);
+        if (offset >= wanted) {
+            return Collections.emptyList();
+        }
+
+        Comparator<Integer> ranking = (a, b) -> scores[a] != scores[b]
+                ? Long.compare(scores[a], scores[b])
+                : Long.compare(ids[a], ids[b]);
+        PriorityQueue<Integer> top = new PriorityQueue<>(wanted, ranking);
+        for (int i = 0; i < count; i++) {
+            if (top.size() < wanted) {
+                top.add(i);
+            } else {
+                int lowest = top.peek();
+                if (scores[i] > scores[lowest] || (scores[i] == scores[lowest] && ids[i] > ids[lowest])) {
+                    top.poll();
+                    top.add(i);
+                }
+            }
+        }
+
+        Long[] ranked = new Long[top.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = ids[top.poll()];
+        }
+        return Arrays.asList(ranked).subList(offset, ranked.length);
+    }
+
+    private void removeInternal(long docId) {
+        String[] terms = documentTerms.remove(docId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list != null && list.remove(docId) && list.size() == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.spring.board.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class NGramTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() < GRAM_SIZE) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+                tokens.add(word.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return tokens;
+    }
+
+    public static Set<String> queryTerms(String query) {
+        return new LinkedHashSet<>(tokenize(query));
+    }
+
+    public static boolean isSearchable(String query) {
+        List<String> words = words(query);
+        return !words.isEmpty() && words.stream().allMatch(w -> w.length() >= GRAM_SIZE);
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
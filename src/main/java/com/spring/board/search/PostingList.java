@@ -0,0 +1,231 @@
+package com.spring.board.search;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 문서 id 오름차순으로 (id 차이, 가중치)를 가변 길이 정수로 인코딩해 보관한다.
+ * 마지막 id 보다 큰 문서는 끝에 이어 쓰고, 그 외의 추가는 delta 에, 삭제는 tombstone 에 모아 두었다가
+ * 인코딩된 크기의 일정 비율을 넘으면 한 번에 다시 인코딩한다. 조회는 세 곳을 병합해 읽는다.
+ * 같은 문서를 다시 추가하기 전에는 먼저 remove 해야 한다.
+ */
+class PostingList {
+
+    private static final int MIN_PENDING = 32;
+    private static final int PENDING_RATIO = 8;
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int encodedSize;
+    private long lastDocId;
+
+    private final TreeMap<Long, Integer> delta = new TreeMap<>();
+    private final Set<Long> tombstones = new HashSet<>();
+
+    void add(long docId, int weight) {
+        if (encodedSize == 0 || docId > lastDocId) {
+            append(docId, weight);
+            return;
+        }
+        delta.put(docId, weight);
+        compactIfNeeded();
+    }
+
+    boolean remove(long docId) {
+        if (delta.remove(docId) == null) {
+            if (docId > lastDocId || tombstones.contains(docId) || !containsEncoded(docId)) {
+                return false;
+            }
+            tombstones.add(docId);
+        }
+        compactIfNeeded();
+        return true;
+    }
+
+    void forEach(Visitor visitor) {
+        Merged merged = new Merged();
+        while (merged.next()) {
+            visitor.visit(merged.docId, merged.weight);
+        }
+    }
+
+    int decodeInto(long[] ids, long[] scores) {
+        int[] index = {0};
+        forEach((docId, weight) -> {
+            ids[index[0]] = docId;
+            scores[index[0]] = weight;
+            index[0]++;
+        });
+        return index[0];
+    }
+
+    /**
+     * ids[0..count) 중 이 목록에도 존재하는 문서만 남기고 가중치를 더한다. 남은 개수를 반환한다.
+     */
+    int intersect(long[] ids, long[] scores, int count) {
+        Merged merged = new Merged();
+        int candidate = 0;
+        int retained = 0;
+        while (candidate < count && merged.next()) {
+            long docId = merged.docId;
+            while (candidate < count && ids[candidate] < docId) {
+                candidate++;
+            }
+            if (candidate < count && ids[candidate] == docId) {
+                ids[retained] = docId;
+                scores[retained] = scores[candidate] + merged.weight;
+                retained++;
+                candidate++;
+            }
+        }
+        return retained;
+    }
+
+    int size() {
+        return encodedSize - tombstones.size() + delta.size();
+    }
+
+    int byteSize() {
+        return length;
+    }
+
+    /**
+     * delta 와 tombstone 을 인코딩된 목록에 합친다.
+     */
+    void compact() {
+        if (delta.isEmpty() && tombstones.isEmpty()) {
+            return;
+        }
+
+        int count = size();
+        long[] ids = new long[count];
+        int[] weights = new int[count];
+        int[] index = {0};
+        forEach((docId, weight) -> {
+            ids[index[0]] = docId;
+            weights[index[0]] = weight;
+            index[0]++;
+        });
+
+        data = new byte[Math.max(8, count * 4)];
+        length = 0;
+        encodedSize = 0;
+        lastDocId = 0;
+        delta.clear();
+        tombstones.clear();
+        for (int i = 0; i < count; i++) {
+            append(ids[i], weights[i]);
+        }
+    }
+
+    private boolean containsEncoded(long docId) {
+        Merged merged = new Merged();
+        while (merged.next()) {
+            if (merged.docId >= docId) {
+                return merged.docId == docId;
+            }
+        }
+        return false;
+    }
+
+    private void compactIfNeeded() {
+        int pending = delta.size() + tombstones.size();
+        if (pending >= Math.max(MIN_PENDING, encodedSize / PENDING_RATIO)) {
+            compact();
+        }
+    }
+
+    private void append(long docId, int weight) {
+        writeVarLong(docId - lastDocId);
+        writeVarLong(weight);
+        lastDocId = docId;
+        encodedSize++;
+    }
+
+    private void writeVarLong(long value) {
+        while (true) {
+            ensureCapacity(length + 1);
+            if ((value & ~0x7FL) == 0) {
+                data[length++] = (byte) value;
+                return;
+            }
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > data.length) {
+            data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
+        }
+    }
+
+    interface Visitor {
+        void visit(long docId, int weight);
+    }
+
+    /**
+     * 인코딩된 목록에서 tombstone 을 건너뛰며 delta 와 id 순으로 병합한다.
+     */
+    private class Merged {
+
+        private int position;
+        private int decoded;
+        private long encodedId;
+        private int encodedWeight;
+        private boolean encodedReady;
+
+        private final Iterator<Map.Entry<Long, Integer>> pending = delta.entrySet().iterator();
+        private Map.Entry<Long, Integer> nextPending = pending.hasNext() ? pending.next() : null;
+
+        private long docId;
+        private int weight;
+
+        boolean next() {
+            if (!encodedReady) {
+                encodedReady = advanceEncoded();
+            }
+            if (nextPending != null && (!encodedReady || nextPending.getKey() < encodedId)) {
+                docId = nextPending.getKey();
+                weight = nextPending.getValue();
+                nextPending = pending.hasNext() ? pending.next() : null;
+                return true;
+            }
+            if (encodedReady) {
+                docId = encodedId;
+                weight = encodedWeight;
+                encodedReady = false;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean advanceEncoded() {
+            while (decoded < encodedSize) {
+                encodedId += readVarLong();
+                encodedWeight = (int) readVarLong();
+                decoded++;
+                if (tombstones.isEmpty() || !tombstones.contains(encodedId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.spring.board.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.spring.board.domain.Board;
+import com.spring.board.domain.Comment;
+import com.spring.board.response.board.BoardExportResponse;
+import com.spring.board.response.comment.CommentExportResponse;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class BoardExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final int clearInterval;
+
+    public BoardExportService(EntityManager entityManager, ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${board.export.fetch-size:1000}") int fetchSize,
+                              @Value("${board.export.clear-interval:500}") int clearInterval) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.clearInterval = clearInterval;
+    }
+
+    public long export(OutputStream out, boolean withComments) {
+        Long exported = transactionTemplate.execute(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+
+            try (ScrollableResults boards = scroll(session,
+                    "select b from Board b join fetch b.user join fetch b.body order by b.id");
+                 ScrollableResults comments = withComments ? scroll(session,
+                         "select c from Comment c order by c.board.id, c.id") : null;
+                 SequenceWriter writer = objectMapper.writer()
+                         .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                         .withRootValueSeparator("\n")
+                         .writeValues(buffered)) {
+
+                CommentCursor commentCursor = new CommentCursor(comments);
+                long count = 0;
+                while (boards.next()) {
+                    Board board = (Board) boards.get(0);
+                    writer.write(toResponse(board, withComments ? commentCursor.next(board.getId()) : null));
+
+                    if (++count % clearInterval == 0) {
+                        session.clear();
+                    }
+                }
+                writer.flush();
+                if (count > 0) {
+                    buffered.write('\n');
+                }
+                buffered.flush();
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return exported == null ? 0 : exported;
+    }
+
+    private ScrollableResults scroll(Session session, String query) {
+        return session.createQuery(query)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    private BoardExportResponse toResponse(Board board, List<CommentExportResponse> comments) {
+        return BoardExportResponse.builder()
+                .boardId(board.getId())
+                .userId(board.getUser().getId())
+                .nickname(board.getUser().getNickname())
+                .title(board.getTitle())
+                .content(board.getContent())
+                .commentCount(board.getCommentCount())
+                .replyCount(board.getReplyCount())
+                .likeCount(board.getLikeCount())
+                .reportCount(board.getReportCount())
+                .comments(comments)
+                .build();
+    }
+
+    private static class CommentCursor {
+
+        private final ScrollableResults comments;
+        private Comment pending;
+
+        private CommentCursor(ScrollableResults comments) {
+            this.comments = comments;
+        }
+
+        private List<CommentExportResponse> next(Long boardId) {
+            List<CommentExportResponse> result = new ArrayList<>();
+            while (true) {
+                if (pending == null) {
+                    if (!comments.next()) {
+                        return result;
+                    }
+                    pending = (Comment) comments.get(0);
+                }
+
+                long commentBoardId = pending.getBoard().getId();
+                if (commentBoardId > boardId) {
+                    return result;
+                }
+                if (commentBoardId == boardId) {
+                    result.add(new CommentExportResponse(pending.getId(), pending.getUser().getId(), pending.getComment()));
+                }
+                pending = null;
+            }
+        }
+    }
+}
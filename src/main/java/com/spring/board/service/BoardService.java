@@ -1,26 +1,44 @@
 package com.spring.board.service;
 
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.cache.BoardResponseCache;
+import com.spring.board.cache.UserSummary;
+import com.spring.board.cache.UserSummaryCache;
 import com.spring.board.domain.*;
 import com.spring.board.exception.InvalidRequest;
 import com.spring.board.exception.board.BoardNotFound;
 import com.spring.board.exception.user.UserNotFound;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.*;
+import com.spring.board.request.Cursor;
 import com.spring.board.request.board.EditBoardRequest;
 import com.spring.board.request.board.WriteBoardRequest;
+import com.spring.board.response.CursorResponse;
 import com.spring.board.response.board.BoardResponse;
 import com.spring.board.response.board.BoardsResponse;
 import com.spring.board.response.board.EditBoardResponse;
 import com.spring.board.response.board.WriteBoardResponse;
 import com.spring.board.response.comment.CommentDto;
 import com.spring.board.response.reply.ReplyDto;
+import com.spring.board.search.BoardSearchIndex;
+import com.spring.board.support.OptimisticRetry;
+import com.spring.board.trending.TrendingBoardTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,9 +47,13 @@ public class BoardService {
 
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository;
-    private final ReplyRepository replyRepository;
-    private final ReportRepository reportRepository;
+    private final BoardResponseCache boardResponseCache;
+    private final BoardListVersion boardListVersion;
+    private final BoardSearchIndex boardSearchIndex;
+    private final CommentService commentService;
+    private final TrendingBoardTracker trendingBoardTracker;
+    private final OptimisticRetry optimisticRetry;
+    private final UserSummaryCache userSummaryCache;
 
     @Transactional
     public WriteBoardResponse write(WriteBoardRequest request, Long userId) {
@@ -45,87 +67,182 @@ public class BoardService {
                 .build();
 
         Board savedBoard = boardRepository.save(board);
+        userRepository.addBoardCount(userId, 1);
+        Grade grade = upgradeGrade(user);
+        boardSearchIndex.indexAfterCommit(savedBoard.getId(), savedBoard.getTitle(), savedBoard.getContent());
+        boardListVersion.bumpAfterCommit();
 
         return WriteBoardResponse.builder()
                 .nickname(savedBoard.getUser().getNickname())
-                .grade(savedBoard.getUser().getGrade())
+                .grade(grade)
                 .title(savedBoard.getTitle())
                 .content(savedBoard.getContent())
                 .build();
     }
 
     public BoardResponse get(Long boardId) {
+        return boardResponseCache.get(boardId, () -> loadBoard(boardId));
+    }
+
+    public BoardResponse getByChangeStamp(Long boardId, long changeStamp) {
+        return boardResponseCache.get(boardId, changeStamp, () -> loadBoard(boardId));
+    }
+
+    public long getChangeStamp(Long boardId) {
+        return boardRepository.findChangeStamp(boardId)
+                .orElseThrow(BoardNotFound::new);
+    }
+
+    public String getListETag() {
+        return boardListVersion.getETag();
+    }
+
+    private BoardResponse loadBoard(Long boardId) {
         Board board = boardRepository.findWithAll(boardId)
                 .orElseThrow(BoardNotFound::new);
 
         return BoardResponse.builder()
-                .nickname(board.getUser().getNickname())
+                .nickname(nickname(board.getUser().getId()))
                 .boardId(board.getId())
                 .title(board.getTitle())
                 .content(board.getContent())
                 .comments(board.getComments().stream()
-                        .map(c -> new CommentDto(c.getComment(), c.getReplies().stream()
-                                .map(r -> new ReplyDto(r.getReply()))
-                                .collect(toList())))
+                        .map(c -> new CommentDto(c.getId(), c.getComment(), c.getVersion(), c.getReplies().stream()
+                                .map(r -> new ReplyDto(r.getId(), r.getReply(), r.getVersion()))
+                                .collect(toList()), null))
                         .collect(toList()))
+                .version(board.getVersion())
+                .changeStamp(board.getChangeStamp())
+                .build();
+    }
+
+    public BoardResponse get(Long boardId, int commentSize) {
+        Board board = boardRepository.findWithBody(boardId)
+                .orElseThrow(BoardNotFound::new);
+
+        CursorResponse<CommentDto> comments = commentService.getComments(boardId, null, commentSize, CommentService.DEFAULT_REPLY_SIZE);
+
+        return BoardResponse.builder()
+                .nickname(nickname(board.getUser().getId()))
+                .boardId(board.getId())
+                .title(board.getTitle())
+                .content(board.getContent())
+                .comments(comments.getContents())
+                .nextCommentCursor(comments.getNextCursor())
+                .version(board.getVersion())
+                .changeStamp(board.getChangeStamp())
                 .build();
     }
 
     public List<BoardsResponse> getBoards(Pageable pageable) {
-        return boardRepository.findBoardWithUser(pageable).stream()
-                .map(b -> BoardsResponse.builder()
-                        .boardId(b.getId())
-                        .userNickname(b.getUser().getNickname())
-                        .title(b.getTitle())
-                        .content(b.getContent())
-                        .build())
-                .collect(toList());
+        return withUsers(boardRepository.findBoardList(pageable));
     }
 
-    public List<BoardsResponse> findBySearch(String title, Pageable pageable) {
-        return boardRepository.findByTitleContaining(title, pageable).stream()
-                .map(b -> BoardsResponse.builder()
-                        .boardId(b.getId())
-                        .userNickname(b.getUser().getNickname())
-                        .title(b.getTitle())
-                        .content(b.getContent())
-                        .build())
-                .collect(toList());
+    public CursorResponse<BoardsResponse> getBoards(String cursor, int size) {
+        int limit = Cursor.limit(size);
+        List<BoardsResponse> boards = withUsers(boardRepository.findBoardListByCursor(Cursor.decode(cursor), PageRequest.of(0, limit + 1)));
+        return CursorResponse.of(boards, limit, BoardsResponse::getBoardId, identity());
     }
 
-    @Transactional
-    public EditBoardResponse editBoard(Long boardId, EditBoardRequest request, User user) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(BoardNotFound::new);
+    public List<BoardsResponse> getTrendingBoards(int size) {
+        return findBoardListInOrder(trendingBoardTracker.getTopBoardIds(Cursor.limit(size)));
+    }
 
-        validateSameUser(user, board);
+    public List<BoardsResponse> findBySearch(String title, Pageable pageable) {
+        return boardSearchIndex.search(title, pageable.getOffset(), pageable.getPageSize())
+                .map(this::findBoardListInOrder)
+                .orElseGet(() -> withUsers(boardRepository.findBoardListByTitle(title, pageable)));
+    }
 
-        board.setTitle(request.getTitle());
-        board.setContent(request.getContent());
+    public CursorResponse<BoardsResponse> findBySearch(String title, String cursor, int size) {
+        int limit = Cursor.limit(size);
+        List<BoardsResponse> boards = withUsers(boardRepository.findBoardListByTitleAndCursor(title, Cursor.decode(cursor), PageRequest.of(0, limit + 1)));
+        return CursorResponse.of(boards, limit, BoardsResponse::getBoardId, identity());
+    }
 
-        return EditBoardResponse.builder()
-                .title(board.getTitle())
-                .content(board.getContent())
-                .build();
+    @Transactional(propagation = NOT_SUPPORTED)
+    public EditBoardResponse editBoard(Long boardId, EditBoardRequest request, LoginUser user) {
+        return optimisticRetry.execute(() -> {
+            Board board = boardRepository.findById(boardId)
+                    .orElseThrow(BoardNotFound::new);
+
+            validateSameUser(user, board);
+            OptimisticRetry.verify(request.getVersion(), board.getVersion());
+
+            board.setTitle(request.getTitle());
+            board.setContent(request.getContent());
+            boardRepository.flush();
+            boardRepository.touch(boardId);
+            boardResponseCache.evictAfterCommit(boardId);
+            boardListVersion.bumpAfterCommit();
+            boardSearchIndex.indexAfterCommit(boardId, board.getTitle(), board.getContent());
+
+            return EditBoardResponse.builder()
+                    .title(board.getTitle())
+                    .content(board.getContent())
+                    .version(board.getVersion())
+                    .build();
+        });
     }
 
     @Transactional
-    public void deleteBoard(Long boardId, User user) {
+    public void deleteBoard(Long boardId, LoginUser user) {
         Board findBoard = boardRepository.findById(boardId)
                 .orElseThrow(BoardNotFound::new);
         validateSameUser(user, findBoard);
 
-        deleteReportReplyAndComment(boardId);
-        boardRepository.delete(findBoard);
+        if (boardRepository.softDelete(boardId, LocalDateTime.now()) == 0) {
+            throw new BoardNotFound();
+        }
+        userRepository.addBoardCount(findBoard.getUser().getId(), -1);
+        boardResponseCache.evictAfterCommit(boardId);
+        boardListVersion.bumpAfterCommit();
+        boardSearchIndex.removeAfterCommit(boardId);
+        trendingBoardTracker.removeAfterCommit(boardId);
+    }
+
+    private List<BoardsResponse> findBoardListInOrder(List<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, BoardsResponse> boards = withUsers(boardRepository.findBoardListByIds(boardIds)).stream()
+                .collect(toMap(BoardsResponse::getBoardId, identity()));
+
+        return boardIds.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
+
+    private List<BoardsResponse> withUsers(List<BoardsResponse> boards) {
+        Map<Long, UserSummary> users = userSummaryCache.getAll(boards.stream()
+                .map(BoardsResponse::getUserId)
+                .collect(toList()));
+
+        return boards.stream()
+                .map(b -> b.withUser(users.get(b.getUserId())))
+                .collect(toList());
+    }
+
+    /**
+     * 갱신된 DB 의 게시글 수로 등급을 계산하고, 더 낮은 등급일 때만 바꾸는 조건부 UPDATE 로 올린다.
+     */
+    private Grade upgradeGrade(User user) {
+        Grade grade = Grade.forBoardCount(userRepository.findBoardCount(user.getId()));
+        if (grade.lowerGrades().isEmpty() || userRepository.upgradeGrade(user.getId(), grade, grade.lowerGrades()) == 0) {
+            return user.getGrade();
+        }
+        userSummaryCache.evictAfterCommit(user.getId());
+        return grade;
     }
 
-    private void deleteReportReplyAndComment(Long boardId) {
-        reportRepository.deleteAllInBatch(reportRepository.findByBoardId(boardId));
-        replyRepository.deleteAllInBatch(replyRepository.findByBoardId(boardId));
-        commentRepository.deleteAllInBatch(commentRepository.findByBoardId(boardId));
+    private String nickname(Long userId) {
+        UserSummary user = userSummaryCache.get(userId);
+        return user == null ? null : user.getNickname();
     }
 
-    private void validateSameUser(User user, Board findBoard) {
+    private void validateSameUser(LoginUser user, Board findBoard) {
         User boardUser = findBoard.getUser();
         if (!user.getId().equals(boardUser.getId())) {
             throw new InvalidRequest();
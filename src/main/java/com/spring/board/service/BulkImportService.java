@@ -0,0 +1,354 @@
+package com.spring.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.cache.BoardResponseCache;
+import com.spring.board.domain.Board;
+import com.spring.board.domain.BoardBody;
+import com.spring.board.exception.board.BoardNotFound;
+import com.spring.board.exception.user.DuplicationLoginIdException;
+import com.spring.board.exception.user.UserNotFound;
+import com.spring.board.id.Snowflake;
+import com.spring.board.login.LoginIdFilter;
+import com.spring.board.login.PasswordHasher;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.request.board.ImportBoardRequest;
+import com.spring.board.request.comment.ImportCommentRequest;
+import com.spring.board.request.user.SaveUserRequest;
+import com.spring.board.response.ImportResponse;
+import com.spring.board.search.BoardSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.spring.board.domain.Grade.SILVER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+@Slf4j
+@Service
+public class BulkImportService {
+
+    private static final int MAX_REJECTS = 100;
+
+    private static final String INSERT_USER =
+            "insert into users (user_id, nickname, login_id, password, grade, board_count, deleted) " +
+                    "values (?, ?, ?, ?, ?, 0, false)";
+    private static final String INSERT_BOARD_BODY =
+            "insert into board_body (board_body_id, data, compressed, original_length) values (?, ?, ?, ?)";
+    private static final String INSERT_BOARD =
+            "insert into board (board_id, title, preview, board_body_id, user_id, comment_count, reply_count, " +
+                    "like_count, report_count, change_stamp, version, created_date, modified_date) " +
+                    "values (?, ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, ?, ?)";
+    private static final String INSERT_COMMENT =
+            "insert into comment (comment_id, comment, board_id, user_id, version, created_date, modified_date) " +
+                    "values (?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ObjectProvider<Snowflake> snowflake;
+    private final UserRepository userRepository;
+    private final BoardRepository boardRepository;
+    private final BoardResponseCache boardResponseCache;
+    private final BoardListVersion boardListVersion;
+    private final BoardSearchIndex boardSearchIndex;
+    private final LoginIdFilter loginIdFilter;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BulkImportService(JdbcTemplate jdbcTemplate, EntityManager entityManager, ObjectMapper objectMapper,
+                             Validator validator, ObjectProvider<Snowflake> snowflake, UserRepository userRepository,
+                             BoardRepository boardRepository, BoardResponseCache boardResponseCache,
+                             BoardListVersion boardListVersion, BoardSearchIndex boardSearchIndex,
+                             LoginIdFilter loginIdFilter, PasswordHasher passwordHasher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${board.import.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.snowflake = snowflake;
+        this.userRepository = userRepository;
+        this.boardRepository = boardRepository;
+        this.boardResponseCache = boardResponseCache;
+        this.boardListVersion = boardListVersion;
+        this.boardSearchIndex = boardSearchIndex;
+        this.loginIdFilter = loginIdFilter;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportResponse importUsers(InputStream in) {
+        return importLines("users", in, SaveUserRequest.class, this::hashPasswords, this::insertUsers);
+    }
+
+    public ImportResponse importBoards(InputStream in) {
+        return importLines("boards", in, ImportBoardRequest.class, rows -> {}, this::insertBoards);
+    }
+
+    public ImportResponse importComments(InputStream in) {
+        return importLines("comments", in, ImportCommentRequest.class, rows -> {}, this::insertComments);
+    }
+
+    private <T> ImportResponse importLines(String type, InputStream in, Class<T> rowType,
+                                           Consumer<List<Row<T>>> preparer, ChunkWriter<T> writer) {
+        long start = System.currentTimeMillis();
+        Progress progress = new Progress();
+        List<Row<T>> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                T row = parse(line, rowType, lineNumber, progress);
+                if (row != null) {
+                    chunk.add(new Row<>(lineNumber, row));
+                }
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, preparer, writer, progress);
+                }
+            }
+            writeChunk(chunk, preparer, writer, progress);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        ImportResponse response = new ImportResponse(progress.imported, progress.rejected, elapsed, progress.rejects);
+        log.info("일괄 등록 완료 type={} imported={} rejected={} elapsed={}ms rows/s={}",
+                type, response.getImported(), response.getRejected(), elapsed, response.getRowsPerSecond());
+        return response;
+    }
+
+    private <T> T parse(String line, Class<T> rowType, long lineNumber, Progress progress) {
+        T row;
+        try {
+            row = objectMapper.readValue(line, rowType);
+        } catch (JsonProcessingException e) {
+            progress.reject(lineNumber, "JSON 형식이 올바르지 않습니다.");
+            return null;
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            progress.reject(lineNumber, violations.iterator().next().getMessage());
+            return null;
+        }
+        return row;
+    }
+
+    /**
+     * BCrypt 해시처럼 오래 걸리는 준비 작업은 트랜잭션을 열기 전에 끝낸다.
+     */
+    private <T> void writeChunk(List<Row<T>> chunk, Consumer<List<Row<T>>> preparer, ChunkWriter<T> writer,
+                                Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        preparer.accept(chunk);
+
+        Progress.Mark mark = progress.mark();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                writer.write(chunk, progress);
+                entityManager.clear();
+            });
+        } catch (DataAccessException e) {
+            log.warn("일괄 등록 청크 실패 lines={}~{}", chunk.get(0).line, chunk.get(chunk.size() - 1).line, e);
+            progress.rollback(mark);
+            chunk.forEach(row -> progress.reject(row.line, "저장에 실패했습니다."));
+        }
+        chunk.clear();
+    }
+
+    private void hashPasswords(List<Row<SaveUserRequest>> rows) {
+        List<String> hashed = passwordHasher.hashAll(rows.stream()
+                .map(row -> row.value.getPassword())
+                .collect(toList()));
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).value.setPassword(hashed.get(i));
+        }
+    }
+
+    private void insertUsers(List<Row<SaveUserRequest>> rows, Progress progress) {
+        Set<String> existing = new HashSet<>(userRepository.findExistingLoginIds(collect(rows, SaveUserRequest::getLoginId)));
+
+        List<Object[]> users = new ArrayList<>(rows.size());
+        Snowflake ids = snowflake.getObject();
+        for (Row<SaveUserRequest> row : rows) {
+            SaveUserRequest user = row.value;
+            if (!existing.add(user.getLoginId())) {
+                progress.reject(row.line, new DuplicationLoginIdException().getMessage());
+                continue;
+            }
+            users.add(new Object[]{ids.nextId(), user.getNickname(), user.getLoginId(), user.getPassword(),
+                    SILVER.name()});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_USER, users);
+        users.forEach(user -> loginIdFilter.put((String) user[2]));
+        progress.imported += users.size();
+    }
+
+    private void insertBoards(List<Row<ImportBoardRequest>> rows, Progress progress) {
+        Set<Long> users = new HashSet<>(userRepository.findExistingIds(collect(rows, ImportBoardRequest::getUserId)));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> bodies = new ArrayList<>(rows.size());
+        List<Object[]> boards = new ArrayList<>(rows.size());
+        Snowflake ids = snowflake.getObject();
+        Map<Long, Integer> boardCounts = new HashMap<>();
+        for (Row<ImportBoardRequest> row : rows) {
+            ImportBoardRequest board = row.value;
+            if (!users.contains(board.getUserId())) {
+                progress.reject(row.line, new UserNotFound().getMessage());
+                continue;
+            }
+
+            BoardBody body = new BoardBody(board.getContent());
+            long bodyId = ids.nextId();
+            long boardId = ids.nextId();
+            bodies.add(new Object[]{bodyId, body.getData(), body.isCompressed(), body.getOriginalLength()});
+            boards.add(new Object[]{boardId, board.getTitle(), Board.toPreview(board.getContent()), bodyId,
+                    board.getUserId(), now, now});
+            boardCounts.merge(board.getUserId(), 1, Integer::sum);
+            boardSearchIndex.indexAfterCommit(boardId, board.getTitle(), board.getContent());
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_BOARD_BODY, bodies);
+        jdbcTemplate.batchUpdate(INSERT_BOARD, boards);
+        boardCounts.forEach(userRepository::addBoardCount);
+        progress.imported += boards.size();
+        boardListVersion.bumpAfterCommit();
+    }
+
+    private void insertComments(List<Row<ImportCommentRequest>> rows, Progress progress) {
+        Set<Long> boards = new HashSet<>(boardRepository.findExistingIds(collect(rows, ImportCommentRequest::getBoardId)));
+        Set<Long> users = new HashSet<>(userRepository.findExistingIds(collect(rows, ImportCommentRequest::getUserId)));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> comments = new ArrayList<>(rows.size());
+        Snowflake ids = snowflake.getObject();
+        Map<Long, Integer> commentCounts = new HashMap<>();
+        for (Row<ImportCommentRequest> row : rows) {
+            ImportCommentRequest comment = row.value;
+            if (!boards.contains(comment.getBoardId())) {
+                progress.reject(row.line, new BoardNotFound().getMessage());
+                continue;
+            }
+            if (!users.contains(comment.getUserId())) {
+                progress.reject(row.line, new UserNotFound().getMessage());
+                continue;
+            }
+
+            comments.add(new Object[]{ids.nextId(), comment.getComment(), comment.getBoardId(),
+                    comment.getUserId(), now, now});
+            commentCounts.merge(comment.getBoardId(), 1, Integer::sum);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_COMMENT, comments);
+        commentCounts.forEach((boardId, count) -> {
+            boardRepository.addCommentCount(boardId, count);
+            boardResponseCache.evictAfterCommit(boardId);
+        });
+        progress.imported += comments.size();
+        if (!commentCounts.isEmpty()) {
+            boardListVersion.bumpAfterCommit();
+        }
+    }
+
+    private static <T, R> Set<R> collect(List<Row<T>> rows, Function<T, R> key) {
+        return rows.stream()
+                .map(row -> key.apply(row.value))
+                .collect(toSet());
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<Row<T>> rows, Progress progress);
+    }
+
+    private static class Row<T> {
+
+        private final long line;
+        private final T value;
+
+        private Row(long line, T value) {
+            this.line = line;
+            this.value = value;
+        }
+    }
+
+    private static class Progress {
+
+        private long imported;
+        private long rejected;
+        private final List<ImportResponse.Reject> rejects = new ArrayList<>();
+
+        private Mark mark() {
+            return new Mark(imported, rejected, rejects.size());
+        }
+
+        private void rollback(Mark mark) {
+            imported = mark.imported;
+            rejected = mark.rejected;
+            rejects.subList(mark.rejects, rejects.size()).clear();
+        }
+
+        private void reject(long line, String reason) {
+            rejected++;
+            if (rejects.size() < MAX_REJECTS) {
+                rejects.add(new ImportResponse.Reject(line, reason));
+            }
+        }
+
+        private static class Mark {
+
+            private final long imported;
+            private final long rejected;
+            private final int rejects;
+
+            private Mark(long imported, long rejected, int rejects) {
+                this.imported = imported;
+                this.rejected = rejected;
+                this.rejects = rejects;
+            }
+        }
+    }
+}
@@ -1,40 +1,68 @@
 package com.spring.board.service;
 
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.cache.BoardResponseCache;
+import com.spring.board.cache.UserSummary;
+import com.spring.board.cache.UserSummaryCache;
 import com.spring.board.domain.Board;
 import com.spring.board.domain.Comment;
 import com.spring.board.domain.Reply;
-import com.spring.board.domain.User;
 import com.spring.board.exception.board.BoardNotFound;
 import com.spring.board.exception.comment.CommentNotFound;
 import com.spring.board.exception.InvalidRequest;
 import com.spring.board.exception.user.UserNotFound;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.CommentRepository;
 import com.spring.board.repository.ReplyRepository;
 import com.spring.board.repository.UserRepository;
+import com.spring.board.request.Cursor;
 import com.spring.board.request.comment.EditCommentRequest;
 import com.spring.board.request.comment.WriteCommentRequest;
+import com.spring.board.response.CursorResponse;
+import com.spring.board.response.comment.CommentDto;
 import com.spring.board.response.comment.EditCommentResponse;
 import com.spring.board.response.comment.SaveCommentResponse;
+import com.spring.board.response.reply.ReplyDto;
+import com.spring.board.support.OptimisticRetry;
+import com.spring.board.trending.Activity;
+import com.spring.board.trending.TrendingBoardTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class CommentService {
 
+    public static final int DEFAULT_REPLY_SIZE = 3;
+
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final ReplyRepository replyRepository;
-
-    public SaveCommentResponse writeComment(Long boardId, WriteCommentRequest request, User user) {
-        User findUser = userRepository.findById(user.getId())
-                .orElseThrow(UserNotFound::new);
+    private final BoardResponseCache boardResponseCache;
+    private final BoardListVersion boardListVersion;
+    private final TrendingBoardTracker trendingBoardTracker;
+    private final OptimisticRetry optimisticRetry;
+    private final UserSummaryCache userSummaryCache;
+
+    public SaveCommentResponse writeComment(Long boardId, WriteCommentRequest request, LoginUser user) {
+        UserSummary writer = userSummaryCache.get(user.getId());
+        if (writer == null) {
+            throw new UserNotFound();
+        }
 
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(BoardNotFound::new);
@@ -42,52 +70,101 @@ public class CommentService {
         Comment comment = Comment.builder()
                 .comment(request.getComment())
                 .board(board)
-                .user(findUser)
+                .user(userRepository.getById(writer.getId()))
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        boardRepository.addCommentCount(boardId, 1);
+        boardResponseCache.evictAfterCommit(boardId);
+        boardListVersion.bumpAfterCommit();
+        trendingBoardTracker.recordAfterCommit(boardId, Activity.COMMENT);
 
         return SaveCommentResponse.builder()
                 .comment(savedComment.getComment())
-                .nickname(savedComment.getUser().getNickname())
+                .nickname(writer.getNickname())
                 .build();
     }
 
-    public EditCommentResponse editComment(Long boardId, Long commentId, User user, EditCommentRequest request) {
-        Comment comment = validateAndGetComment(boardId, commentId, user);
-        comment.changeComment(request.getComment());
-        return new EditCommentResponse(comment.getComment());
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentDto> getComments(Long boardId, String cursor, int size, int replySize) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new BoardNotFound();
+        }
+
+        int limit = Cursor.limit(size);
+        List<Comment> comments = commentRepository.findPageByBoardId(boardId, Cursor.decode(cursor, 0L), PageRequest.of(0, limit + 1));
+        List<Comment> page = comments.size() > limit ? comments.subList(0, limit) : comments;
+        int replyLimit = Cursor.limit(replySize);
+        Map<Long, List<Reply>> replies = findFirstReplies(page, replyLimit);
+
+        return CursorResponse.of(comments, limit, Comment::getId,
+                c -> toCommentDto(c, replies.getOrDefault(c.getId(), Collections.emptyList()), replyLimit));
     }
 
-    public void deleteComment(Long boardId, Long commentId, User user) {
-        Comment comment = commentRepository.findCommentWithUserAndBoard(commentId)
-                .orElseThrow(CommentNotFound::new);
+    @Transactional(propagation = NOT_SUPPORTED)
+    public EditCommentResponse editComment(Long boardId, Long commentId, LoginUser user, EditCommentRequest request) {
+        return optimisticRetry.execute(() -> {
+            Comment comment = validateAndGetComment(boardId, commentId, user);
+            OptimisticRetry.verify(request.getVersion(), comment.getVersion());
+
+            comment.changeComment(request.getComment());
+            commentRepository.flush();
+            boardRepository.touch(comment.getBoard().getId());
+            boardResponseCache.evictAfterCommit(comment.getBoard().getId());
+            return new EditCommentResponse(comment.getComment(), comment.getVersion());
+        });
+    }
 
-        List<Reply> replies = replyRepository.findByCommentId(commentId);
+    public void deleteComment(Long boardId, Long commentId, LoginUser user) {
+        validateAndGetComment(boardId, commentId, user);
 
-        if (!comment.getBoard().getId().equals(boardId)) {
-            throw new BoardNotFound();
+        LocalDateTime now = LocalDateTime.now();
+        if (commentRepository.softDelete(commentId, now) == 0) {
+            throw new CommentNotFound();
+        }
+        int replies = replyRepository.softDeleteByCommentId(commentId, now);
+        if (replies > 0) {
+            boardRepository.addReplyCount(boardId, -replies);
         }
+        boardRepository.addCommentCount(boardId, -1);
+        boardResponseCache.evictAfterCommit(boardId);
+        boardListVersion.bumpAfterCommit();
+    }
 
-        if (!comment.getUser().getId().equals(user.getId())) {
-            throw new InvalidRequest();
+    private Map<Long, List<Reply>> findFirstReplies(List<Comment> comments, int replyLimit) {
+        if (comments.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        replyRepository.deleteAllInBatch(replies);
-        commentRepository.delete(comment);
+        List<Long> commentIds = comments.stream()
+                .map(Comment::getId)
+                .collect(toList());
+
+        return replyRepository.findFirstRepliesByCommentIds(commentIds, replyLimit + 1).stream()
+                .collect(groupingBy(r -> r.getComment().getId()));
+    }
+
+    private CommentDto toCommentDto(Comment comment, List<Reply> replies, int replyLimit) {
+        CursorResponse<ReplyDto> page = CursorResponse.of(replies, replyLimit, Reply::getId,
+                r -> new ReplyDto(r.getId(), r.getReply(), r.getVersion()));
+        return new CommentDto(comment.getId(), comment.getComment(), comment.getVersion(), page.getContents(),
+                page.getNextCursor());
     }
 
-    private Comment validateAndGetComment(Long boardId, Long commentId, User user) {
-        Comment comment = commentRepository.findById(commentId)
+    private Comment validateAndGetComment(Long boardId, Long commentId, LoginUser user) {
+        Comment comment = commentRepository.findCommentWithUserAndBoard(commentId)
                 .orElseThrow(CommentNotFound::new);
 
-        boardRepository.findById(boardId)
-                .orElseThrow(BoardNotFound::new);
+        Board board = comment.getBoard();
+        if (!board.getId().equals(boardId) || board.getDeletedDate() != null) {
+            throw new BoardNotFound();
+        }
 
-        Long commentUserId = comment.getUser().getId();
-        Long userId = user.getId();
+        if (comment.getUser().isDeleted()) {
+            throw new UserNotFound();
+        }
 
-        if (!commentUserId.equals(userId)) {
+        if (!comment.getUser().getId().equals(user.getId())) {
             throw new InvalidRequest();
         }
 
@@ -1,20 +1,29 @@
 package com.spring.board.service;
 
-import com.spring.board.domain.Board;
+import com.spring.board.cache.BoardListVersion;
 import com.spring.board.domain.Like;
-import com.spring.board.domain.User;
 import com.spring.board.exception.board.BoardNotFound;
+import com.spring.board.exception.like.DuplicationLikeException;
 import com.spring.board.exception.like.LikeNotFound;
 import com.spring.board.exception.user.UserNotFound;
+import com.spring.board.cache.UserSummary;
+import com.spring.board.cache.UserSummaryCache;
+import com.spring.board.like.LikeTarget;
+import com.spring.board.like.LikeWriteBuffer;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.LikeRepository;
 import com.spring.board.repository.UserRepository;
+import com.spring.board.support.UniqueViolation;
 import com.spring.board.response.like.LikeResponse;
+import com.spring.board.trending.Activity;
+import com.spring.board.trending.TrendingBoardTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -24,36 +33,57 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final TrendingBoardTracker trendingBoardTracker;
+    private final BoardListVersion boardListVersion;
+    private final LikeWriteBuffer likeWriteBuffer;
+    private final UserSummaryCache userSummaryCache;
 
     public LikeResponse like(Long boardId, Long userId) {
-        User findUser = userRepository.findById(userId)
-                .orElseThrow(UserNotFound::new);
-
-        Board board = boardRepository.findById(boardId)
+        LikeTarget target = boardRepository.findLikeTarget(boardId)
                 .orElseThrow(BoardNotFound::new);
+        Map<Long, UserSummary> users = userSummaryCache.getAll(List.of(userId, target.getBoardUserId()));
+        if (!users.containsKey(userId)) {
+            throw new UserNotFound();
+        }
+        UserSummary boardUser = users.get(target.getBoardUserId());
 
-        Optional<Like> findLike = likeRepository.findByBoardIdAndUserId(boardId, userId);
-
-        Like like = Like.builder()
-                .board(board)
-                .user(findUser)
-                .like(findLike)
-                .build();
+        if (!likeWriteBuffer.isEnabled() || !likeWriteBuffer.like(userId, boardId)) {
+            Like like = Like.builder()
+                    .board(boardRepository.getById(boardId))
+                    .user(userRepository.getById(userId))
+                    .build();
 
-        likeRepository.save(like);
+            boardRepository.addLikeCount(boardId, 1);
+            try {
+                likeRepository.saveAndFlush(like);
+            } catch (DataIntegrityViolationException e) {
+                if (UniqueViolation.of(e, "uk_likes_board_user")) {
+                    throw new DuplicationLikeException();
+                }
+                throw new BoardNotFound();
+            }
+            trendingBoardTracker.recordAfterCommit(boardId, Activity.LIKE);
+            boardListVersion.bumpAfterCommit();
+        }
 
         return LikeResponse.builder()
-                .userNickname(findUser.getNickname())
-                .boardUserNickname(board.getUser().getNickname())
-                .title(board.getTitle())
-                .content(board.getContent())
+                .userNickname(users.get(userId).getNickname())
+                .boardUserNickname(boardUser == null ? null : boardUser.getNickname())
+                .title(target.getTitle())
+                .content(target.getPreview())
                 .build();
     }
 
     public void cancelLike(Long boardId, Long userId) {
+        if (likeWriteBuffer.isEnabled() && likeWriteBuffer.cancel(userId, boardId)) {
+            return;
+        }
+
         Like findLike = likeRepository.findByBoardIdAndUserId(boardId, userId)
                 .orElseThrow(LikeNotFound::new);
 
         likeRepository.delete(findLike);
+        boardRepository.addLikeCount(boardId, -1);
+        boardListVersion.bumpAfterCommit();
     }
 }
@@ -2,19 +2,43 @@ package com.spring.board.service;
 
 import com.spring.board.domain.User;
 import com.spring.board.exception.user.UserNotFound;
+import com.spring.board.login.PasswordHasher;
 import com.spring.board.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LoginService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
 
     public User login(String loginId, String password) {
-        return userRepository.findByLoginId(loginId)
-                .filter(u -> u.getPassword().equals(password))
+        User user = userRepository.findByLoginId(loginId)
+                .filter(u -> !u.isDeleted())
                 .orElseThrow(UserNotFound::new);
+
+        if (!passwordHasher.matches(password, user.getPassword())) {
+            throw new UserNotFound();
+        }
+
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            rehash(user, password);
+        }
+        return user;
+    }
+
+    /**
+     * 평문 또는 낮은 강도로 저장된 비밀번호를 로그인에 성공한 시점에 다시 해시한다.
+     * 그 사이 비밀번호가 바뀌었다면 저장된 값이 달라 갱신되지 않는다.
+     */
+    private void rehash(User user, String password) {
+        String hashed = passwordHasher.hash(password);
+        if (userRepository.updatePassword(user.getId(), user.getPassword(), hashed) > 0) {
+            log.info("비밀번호 재해시 userId={}", user.getId());
+        }
     }
 }
@@ -1,25 +1,41 @@
 package com.spring.board.service;
 
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.cache.BoardResponseCache;
 import com.spring.board.domain.Board;
 import com.spring.board.domain.Comment;
 import com.spring.board.domain.Reply;
 import com.spring.board.domain.User;
+import com.spring.board.exception.InvalidRequest;
 import com.spring.board.exception.board.BoardNotFound;
 import com.spring.board.exception.comment.CommentNotFound;
 import com.spring.board.exception.reply.ReplyNotFound;
 import com.spring.board.exception.user.UserNotFound;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.CommentRepository;
 import com.spring.board.repository.ReplyRepository;
 import com.spring.board.repository.UserRepository;
+import com.spring.board.request.Cursor;
 import com.spring.board.request.reply.EditReplyRequest;
 import com.spring.board.request.reply.WriteReplyRequest;
+import com.spring.board.response.CursorResponse;
 import com.spring.board.response.reply.EditReplyResponse;
+import com.spring.board.response.reply.ReplyDto;
 import com.spring.board.response.reply.WriteReplyResponse;
+import com.spring.board.support.OptimisticRetry;
+import com.spring.board.trending.Activity;
+import com.spring.board.trending.TrendingBoardTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -29,8 +45,12 @@ public class ReplyService {
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
     private final ReplyRepository replyRepository;
+    private final BoardResponseCache boardResponseCache;
+    private final BoardListVersion boardListVersion;
+    private final TrendingBoardTracker trendingBoardTracker;
+    private final OptimisticRetry optimisticRetry;
 
-    public WriteReplyResponse writeReply(User user, Long boardId, Long commentId, WriteReplyRequest request) {
+    public WriteReplyResponse writeReply(LoginUser user, Long boardId, Long commentId, WriteReplyRequest request) {
         User findUser = userRepository.findById(user.getId())
                 .orElseThrow(UserNotFound::new);
 
@@ -48,34 +68,75 @@ public class ReplyService {
                 .build();
 
         Reply savedReply = replyRepository.save(reply);
+        boardRepository.addReplyCount(boardId, 1);
+        boardResponseCache.evictAfterCommit(boardId);
+        boardListVersion.bumpAfterCommit();
+        trendingBoardTracker.recordAfterCommit(boardId, Activity.REPLY);
 
         return new WriteReplyResponse(findUser.getNickname(), savedReply.getReply());
     }
 
-    public EditReplyResponse editReply(User user, Long boardId, Long commentId,
+    @Transactional(readOnly = true)
+    public CursorResponse<ReplyDto> getReplies(Long boardId, Long commentId, String cursor, int size) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(CommentNotFound::new);
+
+        if (!comment.getBoard().getId().equals(boardId) || !boardRepository.existsById(boardId)) {
+            throw new BoardNotFound();
+        }
+
+        int limit = Cursor.limit(size);
+        List<Reply> replies = replyRepository.findPageByCommentId(commentId, Cursor.decode(cursor, 0L), PageRequest.of(0, limit + 1));
+        return CursorResponse.of(replies, limit, Reply::getId, r -> new ReplyDto(r.getId(), r.getReply(), r.getVersion()));
+    }
+
+    @Transactional(propagation = NOT_SUPPORTED)
+    public EditReplyResponse editReply(LoginUser user, Long boardId, Long commentId,
                                       Long replyId, EditReplyRequest request) {
-        Reply reply = validateAndGetReply(user, boardId, commentId, replyId);
-        reply.updateReply(request.getReply());
-        return new EditReplyResponse(user.getNickname(), reply.getReply());
+        return optimisticRetry.execute(() -> {
+            Reply reply = validateAndGetReply(user, boardId, commentId, replyId);
+            OptimisticRetry.verify(request.getVersion(), reply.getVersion());
+
+            reply.updateReply(request.getReply());
+            replyRepository.flush();
+            boardRepository.touch(reply.getBoard().getId());
+            boardResponseCache.evictAfterCommit(reply.getBoard().getId());
+            return new EditReplyResponse(user.getNickname(), reply.getReply(), reply.getVersion());
+        });
     }
 
-    public void deleteReply(User user, Long boardId, Long commentId, Long replyId) {
+    public void deleteReply(LoginUser user, Long boardId, Long commentId, Long replyId) {
         Reply reply = validateAndGetReply(user, boardId, commentId, replyId);
-        replyRepository.delete(reply);
+        if (replyRepository.softDelete(reply.getId(), LocalDateTime.now()) == 0) {
+            throw new ReplyNotFound();
+        }
+        boardRepository.addReplyCount(reply.getBoard().getId(), -1);
+        boardResponseCache.evictAfterCommit(reply.getBoard().getId());
+        boardListVersion.bumpAfterCommit();
     }
 
-    private Reply validateAndGetReply(User user, Long boardId, Long commentId, Long replyId) {
-        userRepository.findById(user.getId())
-                .orElseThrow(UserNotFound::new);
+    private Reply validateAndGetReply(LoginUser user, Long boardId, Long commentId, Long replyId) {
+        Reply reply = replyRepository.findReplyWithUserAndParents(replyId)
+                .orElseThrow(ReplyNotFound::new);
 
-        boardRepository.findById(boardId)
-                .orElseThrow(BoardNotFound::new);
+        Board board = reply.getBoard();
+        if (!board.getId().equals(boardId) || board.getDeletedDate() != null) {
+            throw new BoardNotFound();
+        }
 
-        commentRepository.findById(commentId)
-                .orElseThrow(CommentNotFound::new);
+        Comment comment = reply.getComment();
+        if (!comment.getId().equals(commentId) || comment.getDeletedDate() != null) {
+            throw new CommentNotFound();
+        }
+
+        if (reply.getUser().isDeleted()) {
+            throw new UserNotFound();
+        }
+
+        if (!reply.getUser().getId().equals(user.getId())) {
+            throw new InvalidRequest();
+        }
 
-        Reply reply = replyRepository.findById(replyId)
-                .orElseThrow(ReplyNotFound::new);
         return reply;
     }
 }
@@ -1,9 +1,13 @@
 package com.spring.board.service;
 
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.cache.UserSummary;
+import com.spring.board.cache.UserSummaryCache;
 import com.spring.board.domain.Board;
 import com.spring.board.domain.Report;
 import com.spring.board.domain.User;
 import com.spring.board.exception.board.BoardNotFound;
+import com.spring.board.exception.report.DuplicationReportException;
 import com.spring.board.exception.user.UserNotFound;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.ReportRepository;
@@ -11,13 +15,15 @@ import com.spring.board.repository.UserRepository;
 import com.spring.board.request.report.ReportRequest;
 import com.spring.board.response.report.ReportBoardsResponse;
 import com.spring.board.response.report.ReportResponse;
+import com.spring.board.support.UniqueViolation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +34,8 @@ public class ReportService {
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final ReportRepository reportRepository;
+    private final BoardListVersion boardListVersion;
+    private final UserSummaryCache userSummaryCache;
 
     @Transactional
     public ReportResponse reportBoard(Long boardId, Long userId, ReportRequest request) {
@@ -37,37 +45,50 @@ public class ReportService {
         User user = userRepository.findById(userId)
                 .orElseThrow(UserNotFound::new);
 
-        Optional<Report> findReport = reportRepository.findByBoardIdAndUserId(boardId, userId);
-
         Report report = Report.builder()
                 .reportContent(request.getReportContent())
                 .user(user)
                 .board(board)
-                .report(findReport)
                 .build();
 
-        reportRepository.save(report);
+        boardRepository.addReportCount(boardId, 1);
+        try {
+            reportRepository.saveAndFlush(report);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueViolation.of(e, "uk_report_board_user")) {
+                throw new DuplicationReportException();
+            }
+            throw new BoardNotFound();
+        }
+        boardListVersion.bumpAfterCommit();
 
         return ReportResponse.builder()
                 .nickname(user.getNickname())
                 .boardId(boardId)
                 .title(board.getTitle())
-                .content(board.getContent())
+                .content(board.getPreview())
                 .reportContent(report.getReportContent())
                 .build();
     }
 
     public List<ReportBoardsResponse> getReportBoards(Pageable pageable) {
         List<Report> reports = reportRepository.findWithBoard(pageable);
+        Map<Long, UserSummary> reporters = userSummaryCache.getAll(reports.stream()
+                .map(r -> r.getUser().getId())
+                .collect(Collectors.toList()));
         return reports.stream()
                 .map(r -> ReportBoardsResponse.builder()
                         .reportId(r.getId())
-                        .reporter(r.getUser().getNickname())
+                        .reporter(nickname(reporters.get(r.getUser().getId())))
                         .reportContent(r.getReportContent())
                         .boardId(r.getBoard().getId())
                         .title(r.getBoard().getTitle())
-                        .content(r.getBoard().getContent())
+                        .content(r.getBoard().getPreview())
                         .build())
                 .collect(Collectors.toList());
     }
+
+    private static String nickname(UserSummary user) {
+        return user == null ? null : user.getNickname();
+    }
 }
@@ -1,17 +1,26 @@
 package com.spring.board.service;
 
+import com.spring.board.cache.UserSummaryCache;
 import com.spring.board.domain.Board;
 import com.spring.board.domain.Like;
 import com.spring.board.domain.User;
 import com.spring.board.exception.InvalidRequest;
 import com.spring.board.exception.user.DuplicationLoginIdException;
 import com.spring.board.exception.user.UserNotFound;
-import com.spring.board.repository.*;
+import com.spring.board.login.LoginIdFilter;
+import com.spring.board.login.LoginUser;
+import com.spring.board.login.PasswordHasher;
+import com.spring.board.purge.UserPurger;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.LikeRepository;
+import com.spring.board.repository.UserRepository;
 import com.spring.board.request.user.EditUserRequest;
 import com.spring.board.request.user.SaveUserRequest;
 import com.spring.board.response.user.SaveUserResponse;
 import com.spring.board.response.user.UserBoardResponse;
+import com.spring.board.response.user.UserPurgeJobResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +29,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.spring.board.domain.Grade.SILVER;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,71 +39,94 @@ public class UserService {
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final LikeRepository likeRepository;
-    private final ReportRepository reportRepository;
-    private final CommentRepository commentRepository;
-    private final ReplyRepository replyRepository;
+    private final UserPurger userPurger;
+    private final LoginIdFilter loginIdFilter;
+    private final PasswordHasher passwordHasher;
+    private final UserSummaryCache userSummaryCache;
 
     public List<UserBoardResponse> getUserBoards(Long id) {
-        User user = userRepository.findUserWithBoards(id)
-                .orElseThrow(UserNotFound::new);
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFound();
+        }
 
-        List<Board> boards = user.getBoards();
+        List<Board> boards = boardRepository.findByUserId(id);
 
         return boards.stream()
-                .map(u -> new UserBoardResponse(u.getId(), u.getTitle(), u.getContent()))
+                .map(u -> new UserBoardResponse(u.getId(), u.getTitle(), u.getPreview()))
                 .collect(Collectors.toList());
     }
 
     public List<UserBoardResponse> getLikeBoards(Long userId) {
         List<Like> boards = likeRepository.findByUserId(userId);
         return boards.stream()
-                .map(l -> new UserBoardResponse(l.getBoard().getId(), l.getBoard().getTitle(), l.getBoard().getContent()))
+                .map(l -> new UserBoardResponse(l.getBoard().getId(), l.getBoard().getTitle(), l.getBoard().getPreview()))
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    /**
+     * 비밀번호 해시를 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 밖에서 해시하고 저장만 트랜잭션으로 처리한다.
+     */
+    @Transactional(propagation = NOT_SUPPORTED)
     public SaveUserResponse save(SaveUserRequest request) {
+        validateDuplicationLoginId(request.getLoginId());
+
         User user = User.builder()
                 .nickname(request.getNickname())
                 .loginId(request.getLoginId())
-                .password(request.getPassword())
+                .password(passwordHasher.hash(request.getPassword()))
                 .grade(SILVER)
                 .build();
 
-        validateDuplicationLoginId(user);
-
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicationLoginIdException();
+        }
+        loginIdFilter.put(savedUser.getLoginId());
 
         return SaveUserResponse.builder()
                 .id(savedUser.getId())
                 .nickname(savedUser.getNickname())
                 .loginId(savedUser.getLoginId())
-                .password(savedUser.getPassword())
                 .build();
     }
 
-    private void validateDuplicationLoginId(User user) {
-        Optional<User> findUser = userRepository.findByLoginId(user.getLoginId());
+    private void validateDuplicationLoginId(String loginId) {
+        if (!loginIdFilter.mightContain(loginId)) {
+            return;
+        }
+
+        Optional<User> findUser = userRepository.findByLoginId(loginId);
         if (!findUser.isEmpty()) {
             throw new DuplicationLoginIdException();
         }
     }
 
-    @Transactional
-    public User editUserPassword(Long id, EditUserRequest request, User user) {
+    @Transactional(propagation = NOT_SUPPORTED)
+    public User editUserPassword(Long id, EditUserRequest request, LoginUser user) {
         User findUser = checkSameUser(id, user);
-        findUser.setPassword(request.getPassword());
+        String hashed = passwordHasher.hash(request.getPassword());
+        if (userRepository.changePassword(id, hashed) == 0) {
+            throw new UserNotFound();
+        }
+        findUser.setPassword(hashed);
+        userSummaryCache.evictAfterCommit(id);
         return findUser;
     }
 
-    public void deleteUser(Long id, User user) {
+    @Transactional
+    public UserPurgeJobResponse deleteUser(Long id, LoginUser user) {
         User findUser = checkSameUser(id, user);
-        reportRepository.deleteAllInBatch(reportRepository.findByUserId(id));
-        deleteUserBoards(boardRepository.findByUserId(id));
-        userRepository.delete(findUser);
+        userSummaryCache.evictAfterCommit(id);
+        return new UserPurgeJobResponse(userPurger.schedule(findUser));
+    }
+
+    public UserPurgeJobResponse getPurgeJob(Long jobId) {
+        return new UserPurgeJobResponse(userPurger.getJob(jobId));
     }
 
-    private User checkSameUser(Long id, User user) {
+    private User checkSameUser(Long id, LoginUser user) {
         User findUser = userRepository.findById(id)
                 .orElseThrow(UserNotFound::new);
 
@@ -103,15 +136,4 @@ public class UserService {
 
         return findUser;
     }
-
-    private void deleteUserBoards(List<Board> boards) {
-        boards.stream()
-                .forEach(b -> deleteUserCommentsAndReplies(b.getId()));
-        boardRepository.deleteAllInBatch(boards);
-    }
-
-    private void deleteUserCommentsAndReplies(Long boardId) {
-        replyRepository.deleteAllInBatch(replyRepository.findByBoardId(boardId));
-        commentRepository.deleteAllInBatch(commentRepository.findByBoardId(boardId));
-    }
 }
@@ -0,0 +1,68 @@
+package com.spring.board.support;
+
+import com.spring.board.exception.EditConflict;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * @Version 충돌 시 작업 전체를 새 트랜잭션에서 다시 읽고 다시 적용한다. 행 잠금 없이 동시 수정을 직렬화하며,
+ * 최대 시도 횟수를 넘기면 {@link EditConflict}(409) 로 끝낸다. 호출자는 트랜잭션 밖에서 호출해야 한다.
+ */
+@Slf4j
+@Component
+public class OptimisticRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticRetry(PlatformTransactionManager transactionManager,
+                           @Value("${board.edit.retry.max-attempts:3}") int maxAttempts,
+                           @Value("${board.edit.retry.backoff-millis:20}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("수정 충돌 재시도 초과 attempts={}", attempt);
+                    throw new EditConflict();
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 클라이언트가 조회했던 버전을 보냈다면 현재 버전과 같아야 한다. 보내지 않으면 마지막 수정이 반영된다.
+     */
+    public static void verify(Long expected, Long current) {
+        if (expected != null && !expected.equals(current)) {
+            throw new EditConflict();
+        }
+    }
+
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EditConflict();
+        }
+    }
+}
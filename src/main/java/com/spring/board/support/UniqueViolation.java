@@ -0,0 +1,25 @@
+package com.spring.board.support;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+public class UniqueViolation {
+
+    private UniqueViolation() {
+    }
+
+    /**
+     * 위반한 제약 이름이 주어진 유니크 제약인지 확인한다. DB 마다 스키마나 인덱스 접미사가 붙을 수 있어 포함 여부로 비교한다.
+     */
+    public static boolean of(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String violated = ((ConstraintViolationException) cause).getConstraintName();
+                return violated != null && violated.toLowerCase(Locale.ROOT).contains(constraintName);
+            }
+        }
+        return false;
+    }
+}
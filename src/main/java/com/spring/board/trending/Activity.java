@@ -0,0 +1,14 @@
+package com.spring.board.trending;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Activity {
+    LIKE(1),
+    COMMENT(2),
+    REPLY(1);
+
+    private final int weight;
+}
@@ -0,0 +1,13 @@
+package com.spring.board.trending;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class BoardActivity {
+    private final Long boardId;
+    private final LocalDateTime createdDate;
+}
@@ -0,0 +1,46 @@
+package com.spring.board.trending;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class SlidingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final AtomicLongArray slots;
+
+    SlidingWindowCounter(int bucketCount) {
+        this.slots = new AtomicLongArray(bucketCount);
+    }
+
+    void add(long bucket, int weight) {
+        int index = (int) (bucket % slots.length());
+        while (true) {
+            long slot = slots.get(index);
+            long slotBucket = slot >>> 32;
+            long next;
+            if (slotBucket == bucket) {
+                next = slot + weight;
+            } else if (slotBucket < bucket) {
+                next = (bucket << 32) | weight;
+            } else {
+                return;
+            }
+            if (slots.compareAndSet(index, slot, next)) {
+                return;
+            }
+        }
+    }
+
+    long sum(long currentBucket) {
+        long oldest = currentBucket - slots.length();
+        long sum = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = slots.get(i);
+            long slotBucket = slot >>> 32;
+            if (slotBucket > oldest && slotBucket <= currentBucket) {
+                sum += slot & COUNT_MASK;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,151 @@
+package com.spring.board.trending;
+
+import com.spring.board.repository.CommentRepository;
+import com.spring.board.repository.LikeRepository;
+import com.spring.board.repository.ReplyRepository;
+import com.spring.board.support.AfterCommit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import static java.util.stream.Collectors.toList;
+
+@Slf4j
+@Component
+public class TrendingBoardTracker {
+
+    private static final Comparator<Entry> BY_SCORE = Comparator.comparingLong(Entry::getScore)
+            .thenComparingLong(Entry::getBoardId);
+
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final LongSupplier clock;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int topSize;
+    private final Map<Long, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+
+    private volatile List<Entry> top = Collections.emptyList();
+
+    @Autowired
+    public TrendingBoardTracker(LikeRepository likeRepository, CommentRepository commentRepository,
+                                ReplyRepository replyRepository,
+                                @Value("${board.trending.window:1h}") Duration window,
+                                @Value("${board.trending.bucket:1m}") Duration bucket,
+                                @Value("${board.trending.size:50}") int topSize) {
+        this(likeRepository, commentRepository, replyRepository, System::currentTimeMillis, window, bucket, topSize);
+    }
+
+    TrendingBoardTracker(LikeRepository likeRepository, CommentRepository commentRepository,
+                         ReplyRepository replyRepository, LongSupplier clock,
+                         Duration window, Duration bucket, int topSize) {
+        this.likeRepository = likeRepository;
+        this.commentRepository = commentRepository;
+        this.replyRepository = replyRepository;
+        this.clock = clock;
+        this.bucketMillis = bucket.toMillis();
+        this.bucketCount = (int) Math.max(1, window.toMillis() / bucketMillis);
+        this.topSize = topSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = clock.getAsLong();
+        LocalDateTime since = toLocalDateTime(start - bucketMillis * bucketCount);
+        counters.clear();
+
+        likeRepository.findActivitySince(since).forEach(a -> record(a, Activity.LIKE));
+        commentRepository.findActivitySince(since).forEach(a -> record(a, Activity.COMMENT));
+        replyRepository.findActivitySince(since).forEach(a -> record(a, Activity.REPLY));
+        refresh();
+
+        log.info("인기 게시글 집계 복구 완료 boards={} elapsed={}ms", counters.size(), clock.getAsLong() - start);
+    }
+
+    public void recordAfterCommit(Long boardId, Activity activity) {
+        AfterCommit.run(() -> record(boardId, activity.getWeight(), clock.getAsLong()));
+    }
+
+    public void removeAfterCommit(Long boardId) {
+        AfterCommit.run(() -> counters.remove(boardId));
+    }
+
+    @Scheduled(fixedDelayString = "${board.trending.refresh-millis:5000}")
+    public void refresh() {
+        long current = clock.getAsLong() / bucketMillis;
+        PriorityQueue<Entry> heap = new PriorityQueue<>(topSize + 1, BY_SCORE);
+
+        for (Map.Entry<Long, SlidingWindowCounter> counter : counters.entrySet()) {
+            long score = counter.getValue().sum(current);
+            if (score == 0) {
+                // record 와 같은 bin 락 안에서 점수를 다시 확인해, 방금 더해진 활동을 버리지 않는다.
+                counters.computeIfPresent(counter.getKey(), (id, c) -> c.sum(current) == 0 ? null : c);
+                continue;
+            }
+
+            heap.offer(new Entry(counter.getKey(), score));
+            if (heap.size() > topSize) {
+                heap.poll();
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>(heap);
+        entries.sort(BY_SCORE.reversed());
+        top = Collections.unmodifiableList(entries);
+    }
+
+    public List<Long> getTopBoardIds(int size) {
+        List<Entry> snapshot = top;
+        return snapshot.subList(0, Math.min(size, snapshot.size())).stream()
+                .map(Entry::getBoardId)
+                .collect(toList());
+    }
+
+    void record(Long boardId, int weight, long timeMillis) {
+        long bucket = timeMillis / bucketMillis;
+        if (bucket <= clock.getAsLong() / bucketMillis - bucketCount) {
+            return;
+        }
+        counters.compute(boardId, (id, counter) -> {
+            SlidingWindowCounter target = counter != null ? counter : new SlidingWindowCounter(bucketCount);
+            target.add(bucket, weight);
+            return target;
+        });
+    }
+
+    private void record(BoardActivity activity, Activity type) {
+        long timeMillis = activity.getCreatedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        record(activity.getBoardId(), type.getWeight(), timeMillis);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Entry {
+        private final long boardId;
+        private final long score;
+    }
+}
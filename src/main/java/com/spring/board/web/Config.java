@@ -1,7 +1,9 @@
 package com.spring.board.web;
 
+import com.spring.board.login.LoginSessions;
 import com.spring.board.web.argumentresolver.LoginMemberArgumentResolver;
 import com.spring.board.web.interceptor.LoginCheckInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -10,18 +12,21 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import java.util.List;
 
 @Configuration
+@RequiredArgsConstructor
 public class Config implements WebMvcConfigurer {
 
+    private final LoginSessions loginSessions;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new LoginCheckInterceptor())
+        registry.addInterceptor(new LoginCheckInterceptor(loginSessions))
                 .order(1)
-                .excludePathPatterns("/boards", "/board/search", "/login", "/user/save",
+                .excludePathPatterns("/boards", "/boards/trending", "/board/search", "/login", "/user/save",
                         "/admin", "/admin/login", "/docs/**");
     }
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.add(new LoginMemberArgumentResolver());
+        resolvers.add(new LoginMemberArgumentResolver(loginSessions));
     }
 }
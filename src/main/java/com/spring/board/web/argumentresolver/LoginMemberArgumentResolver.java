@@ -1,6 +1,8 @@
 package com.spring.board.web.argumentresolver;
 
-import com.spring.board.domain.User;
+import com.spring.board.login.LoginSessions;
+import com.spring.board.login.LoginUser;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -9,19 +11,19 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpSession;
-
-import static com.spring.board.Const.LOGIN_USER;
 
 @Slf4j
+@RequiredArgsConstructor
 public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
 
+    private final LoginSessions loginSessions;
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         log.info("supportsParameter 실행");
 
         boolean hasLoginAnnotation = parameter.hasParameterAnnotation(Login.class);
-        boolean hasMemberType = User.class.isAssignableFrom(parameter.getParameterType());
+        boolean hasMemberType = LoginUser.class.isAssignableFrom(parameter.getParameterType());
 
         return hasLoginAnnotation && hasMemberType;
     }
@@ -31,12 +33,6 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
         log.info("resolveArgument 실행");
 
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        HttpSession session = request.getSession(false);
-
-        if(session == null) {
-            return null;
-        }
-
-        return session.getAttribute(LOGIN_USER);
+        return loginSessions.find(request);
     }
 }
@@ -0,0 +1,166 @@
+package com.spring.board.benchmark;
+
+import com.spring.board.domain.Board;
+import com.spring.board.domain.User;
+import com.spring.board.repository.BoardBodyRepository;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BoardBodyBenchmark {
+
+    private static final int BOARD_COUNT = 2_000;
+    private static final int CONTENT_LENGTH = 20_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+    private static final String[] WORDS = {"게시글", "본문", "댓글", "좋아요", "spring", "jpa", "성능", "측정", "압축", "버퍼"};
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    BoardBodyRepository boardBodyRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private long[] boardIds;
+
+    @BeforeAll
+    void seed() {
+        boardRepository.deleteAllInBatch();
+        boardBodyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("benchmark")
+                .password("비밀번호")
+                .build());
+
+        Random random = new Random(42);
+        List<Board> boards = IntStream.range(0, BOARD_COUNT)
+                .mapToObj(i -> Board.builder()
+                        .title("제목" + i)
+                        .content(randomContent(random))
+                        .user(user)
+                        .build())
+                .collect(Collectors.toList());
+        boardRepository.saveAll(boards);
+
+        boardIds = boards.stream()
+                .mapToLong(Board::getId)
+                .toArray();
+    }
+
+    @Test
+    @DisplayName("본문 분리 후 행 크기와 비상세 경로 지연 시간 측정")
+    void measure() {
+        Map<String, Object> board = jdbcTemplate.queryForMap(
+                "select avg(octet_length(title)) + avg(octet_length(preview)) as row_bytes from board");
+        Map<String, Object> body = jdbcTemplate.queryForMap(
+                "select avg(original_length) as raw_bytes, avg(octet_length(data)) as stored_bytes from board_body");
+        System.out.printf("board row payload avg=%,.0f bytes%n", toDouble(board.get("row_bytes")));
+        System.out.printf("body raw avg=%,.0f bytes stored avg=%,.0f bytes%n",
+                toDouble(body.get("raw_bytes")), toDouble(body.get("stored_bytes")));
+
+        long[] bufferPool = bufferPoolStatus();
+        run("non-detail (findById+title)", id -> boardRepository.findById(id).get().getTitle().length());
+        run("detail (findWithAll+content)", id -> boardRepository.findWithAll(id).get().getContent().length());
+        printBufferPoolHitRate(bufferPool, bufferPoolStatus());
+    }
+
+    private void run(String name, LongFunction<Integer> query) {
+        Random random = new Random(7);
+        for (int i = 0; i < WARMUP; i++) {
+            long id = randomId(random);
+            transactionTemplate.execute(status -> query.apply(id));
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long id = randomId(random);
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> query.apply(id));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        System.out.printf("%-30s avg=%8.3fms p99=%8.3fms%n", name,
+                Arrays.stream(nanos).average().orElse(0) / 1_000_000.0,
+                nanos[(int) Math.ceil(nanos.length * 0.99) - 1] / 1_000_000.0);
+    }
+
+    private long[] bufferPoolStatus() {
+        if (!isMySql()) {
+            return null;
+        }
+        Map<String, Long> status = jdbcTemplate.query("show global status like 'Innodb_buffer_pool_read%'", rs -> {
+            Map<String, Long> values = new HashMap<>();
+            while (rs.next()) {
+                values.put(rs.getString(1), rs.getLong(2));
+            }
+            return values;
+        });
+        return new long[]{status.get("Innodb_buffer_pool_read_requests"), status.get("Innodb_buffer_pool_reads")};
+    }
+
+    private void printBufferPoolHitRate(long[] before, long[] after) {
+        if (before == null || after == null) {
+            System.out.println("buffer pool hit rate: n/a (InnoDB 에서만 측정)");
+            return;
+        }
+        long requests = after[0] - before[0];
+        long diskReads = after[1] - before[1];
+        System.out.printf("buffer pool hit rate=%.4f (requests=%,d disk reads=%,d)%n",
+                requests == 0 ? 1.0 : 1.0 - (double) diskReads / requests, requests, diskReads);
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((Connection c) -> c.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    private long randomId(Random random) {
+        return boardIds[random.nextInt(boardIds.length)];
+    }
+
+    private static String randomContent(Random random) {
+        StringBuilder content = new StringBuilder(CONTENT_LENGTH);
+        while (content.length() < CONTENT_LENGTH) {
+            content.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return content.toString();
+    }
+
+    private static double toDouble(Object value) {
+        return value == null ? 0 : ((Number) value).doubleValue();
+    }
+}
@@ -0,0 +1,134 @@
+package com.spring.board.benchmark;
+
+import com.spring.board.domain.Board;
+import com.spring.board.domain.User;
+import com.spring.board.repository.BoardBodyRepository;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.service.BoardExportService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * H2 in-memory 모드는 결과 집합을 JVM 힙에 버퍼링하므로 힙 증가분에 DB 측 버퍼가 섞인다.
+ * 애플리케이션 측 힙만 보려면 MySQL(useCursorFetch=true) 에서 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BoardExportBenchmark {
+
+    private static final int[] BOARD_COUNTS = {20_000, 100_000};
+    private static final int CHUNK_SIZE = 1_000;
+    private static final String CONTENT = "내보내기 본문 ".repeat(100);
+
+    @Autowired
+    BoardExportService boardExportService;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    BoardBodyRepository boardBodyRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private User user;
+    private int seeded;
+
+    @BeforeAll
+    void setUp() {
+        boardRepository.deleteAllInBatch();
+        boardBodyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("benchmark")
+                .password("비밀번호")
+                .build());
+    }
+
+    @Test
+    @DisplayName("게시글 수가 늘어도 내보내기 힙 사용량이 일정한지 측정")
+    void flatHeap() throws InterruptedException {
+        for (int count : BOARD_COUNTS) {
+            seedUpTo(count);
+
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            AtomicLong peak = new AtomicLong();
+            Thread sampler = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    System.gc();
+                    peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+
+            System.gc();
+            long baseline = memory.getHeapMemoryUsage().getUsed();
+            CountingOutputStream out = new CountingOutputStream();
+
+            sampler.start();
+            long start = System.nanoTime();
+            long exported = boardExportService.export(out, false);
+            long elapsed = System.nanoTime() - start;
+            sampler.interrupt();
+            sampler.join();
+
+            assertEquals(count, exported);
+            System.out.printf("boards=%,8d bytes=%,12d rows/s=%,10.0f live heap growth=%,8d KiB%n",
+                    exported, out.bytes, exported / (elapsed / 1_000_000_000.0),
+                    Math.max(0, peak.get() - baseline) / 1024);
+        }
+    }
+
+    private void seedUpTo(int count) {
+        for (int from = seeded; from < count; from += CHUNK_SIZE) {
+            List<Board> boards = IntStream.range(from, Math.min(from + CHUNK_SIZE, count))
+                    .mapToObj(i -> Board.builder()
+                            .title("제목" + i)
+                            .content(CONTENT)
+                            .user(user)
+                            .build())
+                    .collect(Collectors.toList());
+            boardRepository.saveAll(boards);
+        }
+        seeded = count;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
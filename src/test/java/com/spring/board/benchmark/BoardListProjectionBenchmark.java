@@ -0,0 +1,114 @@
+package com.spring.board.benchmark;
+
+import com.spring.board.domain.Board;
+import com.spring.board.domain.User;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.response.board.BoardsResponse;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BoardListProjectionBenchmark {
+
+    private static final int BOARD_COUNT = 2_000;
+    private static final int CONTENT_LENGTH = 20_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void seed() {
+        boardRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("benchmark")
+                .password("비밀번호")
+                .build());
+
+        String content = "긴 본문 ".repeat(CONTENT_LENGTH / 5);
+        List<Board> boards = IntStream.range(0, BOARD_COUNT)
+                .mapToObj(i -> Board.builder()
+                        .title("제목" + i)
+                        .content(content)
+                        .user(user)
+                        .build())
+                .collect(Collectors.toList());
+        boardRepository.saveAll(boards);
+    }
+
+    @Test
+    @DisplayName("엔티티 조회와 프로젝션 조회의 전송량 및 지연 시간 비교")
+    void entityVsProjection() {
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE, DESC, "id");
+
+        run("entity", () -> boardRepository.findBoardWithUser(pageable),
+                boards -> boards.stream().mapToLong(this::entityBytes).sum());
+        run("projection", () -> boardRepository.findBoardList(pageable),
+                boards -> boards.stream().mapToLong(this::projectionBytes).sum());
+    }
+
+    private <T> void run(String name, Supplier<List<T>> query, ToLongFunction<List<T>> bytes) {
+        long fetched = transactionTemplate.execute(status -> bytes.applyAsLong(query.get()));
+
+        for (int i = 0; i < WARMUP; i++) {
+            transactionTemplate.execute(status -> query.get());
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> query.get());
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        System.out.printf("%-10s bytes/page=%,10d avg=%8.3fms p99=%8.3fms%n", name, fetched,
+                Arrays.stream(nanos).average().orElse(0) / 1_000_000.0,
+                nanos[(int) Math.ceil(nanos.length * 0.99) - 1] / 1_000_000.0);
+    }
+
+    private long entityBytes(Board board) {
+        User user = board.getUser();
+        return Long.BYTES * 2 + bytes(board.getTitle()) + bytes(board.getContent()) + bytes(board.getPreview())
+                + bytes(user.getNickname()) + bytes(user.getLoginId()) + bytes(user.getPassword());
+    }
+
+    private long projectionBytes(BoardsResponse board) {
+        return Long.BYTES + bytes(board.getTitle()) + bytes(board.getContent()) + bytes(board.getUserNickname());
+    }
+
+    private long bytes(String value) {
+        return value == null ? 0 : value.getBytes(UTF_8).length;
+    }
+}
@@ -0,0 +1,121 @@
+package com.spring.board.benchmark;
+
+import com.spring.board.domain.Board;
+import com.spring.board.domain.User;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.request.Cursor;
+import com.spring.board.response.CursorResponse;
+import com.spring.board.response.board.BoardsResponse;
+import com.spring.board.service.BoardService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BoardPagingBenchmark {
+
+    private static final int BOARD_COUNT = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    BoardService boardService;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeAll
+    void seed() {
+        boardRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("benchmark")
+                .password("비밀번호")
+                .build());
+
+        for (int from = 0; from < BOARD_COUNT; from += CHUNK_SIZE) {
+            List<Board> boards = IntStream.range(from, from + CHUNK_SIZE)
+                    .mapToObj(i -> Board.builder()
+                            .title("제목" + i)
+                            .content("내용" + i)
+                            .user(user)
+                            .build())
+                    .collect(Collectors.toList());
+            boardRepository.saveAll(boards);
+        }
+    }
+
+    @Test
+    @DisplayName("offset 페이징과 커서 페이징의 깊은 페이지 지연 시간 비교")
+    void offsetVsKeyset() {
+        for (int page : new int[]{0, 100, 1_000, 2_500, BOARD_COUNT / PAGE_SIZE - 1}) {
+            PageRequest pageable = PageRequest.of(page, PAGE_SIZE, DESC, "id");
+            String cursor = cursorBefore(page);
+
+            List<BoardsResponse> offset = boardService.getBoards(pageable);
+            CursorResponse<BoardsResponse> keyset = boardService.getBoards(cursor, PAGE_SIZE);
+            assertEquals(offset.get(0).getBoardId(), keyset.getContents().get(0).getBoardId());
+
+            long[] offsetNanos = measure(() -> boardService.getBoards(pageable));
+            long[] keysetNanos = measure(() -> boardService.getBoards(cursor, PAGE_SIZE));
+
+            System.out.printf("page=%5d offset avg=%8.3fms p99=%8.3fms | keyset avg=%8.3fms p99=%8.3fms%n",
+                    page, avg(offsetNanos), p99(offsetNanos), avg(keysetNanos), p99(keysetNanos));
+        }
+    }
+
+    private String cursorBefore(int page) {
+        if (page == 0) {
+            return "";
+        }
+        List<BoardsResponse> previous = boardService.getBoards(PageRequest.of(page - 1, PAGE_SIZE, DESC, "id"));
+        return Cursor.encode(previous.get(previous.size() - 1).getBoardId());
+    }
+
+    private long[] measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private double avg(long[] nanos) {
+        return Arrays.stream(nanos).average().orElse(0) / 1_000_000.0;
+    }
+
+    private double p99(long[] sortedNanos) {
+        return sortedNanos[(int) Math.ceil(sortedNanos.length * 0.99) - 1] / 1_000_000.0;
+    }
+}
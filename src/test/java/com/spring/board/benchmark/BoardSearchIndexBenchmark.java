@@ -0,0 +1,81 @@
+package com.spring.board.benchmark;
+
+import com.spring.board.search.InvertedIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+@Tag("benchmark")
+class BoardSearchIndexBenchmark {
+
+    private static final int DOCUMENT_COUNT = 100_000;
+    private static final int VOCABULARY_SIZE = 20_000;
+    private static final int ITERATIONS = 2_000;
+
+    @Test
+    @DisplayName("역색인 검색 지연 시간")
+    void search() {
+        Random random = new Random(42);
+        String[] vocabulary = vocabulary(random);
+        InvertedIndex index = new InvertedIndex();
+
+        long indexStart = System.nanoTime();
+        for (long id = 1; id <= DOCUMENT_COUNT; id++) {
+            index.index(id, sentence(random, vocabulary, 4), sentence(random, vocabulary, 60));
+        }
+        System.out.printf("indexed %,d documents in %,dms%n", DOCUMENT_COUNT, (System.nanoTime() - indexStart) / 1_000_000);
+
+        // 낮은 순위일수록 자주 등장하는 단어다.
+        int[][] queries = {{0}, {1, 2}, {10}, {100, 200}, {1_000}, {5_000, 7_000}};
+        for (int[] ranks : queries) {
+            StringBuilder query = new StringBuilder();
+            for (int rank : ranks) {
+                query.append(vocabulary[rank]).append(' ');
+            }
+            measure(index, query.toString().trim(), Arrays.toString(ranks));
+        }
+    }
+
+    private void measure(InvertedIndex index, String query, String label) {
+        for (int i = 0; i < 200; i++) {
+            index.search(query, 0, 20);
+        }
+
+        int hits = index.search(query, 0, 20).size();
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            index.search(query, 0, 20);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("word ranks=%-14s hits=%2d avg=%8.3fms p99=%8.3fms%n", label, hits,
+                Arrays.stream(nanos).average().orElse(0) / 1_000_000.0,
+                nanos[(int) Math.ceil(nanos.length * 0.99) - 1] / 1_000_000.0);
+    }
+
+    private String[] vocabulary(Random random) {
+        String[] words = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < words.length; i++) {
+            StringBuilder word = new StringBuilder();
+            int syllables = 2 + random.nextInt(3);
+            for (int j = 0; j < syllables; j++) {
+                word.append((char) ('가' + random.nextInt(2_000)));
+            }
+            words[i] = word.toString();
+        }
+        return words;
+    }
+
+    private String sentence(Random random, String[] vocabulary, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            int rank = random.nextInt(random.nextInt(vocabulary.length) + 1);
+            sentence.append(vocabulary[rank]).append(' ');
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.spring.board.benchmark;
+
+import com.spring.board.BoardApplication;
+import com.spring.board.domain.User;
+import com.spring.board.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 전략마다 컨텍스트를 새로 띄워 같은 스키마에 동시 insert 처리량을 비교한다.
+ */
+@Tag("benchmark")
+class IdGeneratorBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int INSERTS_PER_THREAD = 500;
+    private static final int WARMUP = 200;
+
+    @Test
+    @DisplayName("아이디 생성 전략별 동시 insert 처리량 측정")
+    void measure() throws Exception {
+        run("sequence");
+        run("snowflake");
+    }
+
+    private void run(String strategy) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("board.id.strategy=" + strategy, "board.search.index.enabled=false")
+                .run()) {
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            for (int i = 0; i < WARMUP; i++) {
+                userRepository.save(user(strategy + "-warmup-" + i));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    long[] nanos = new long[INSERTS_PER_THREAD];
+                    start.await();
+                    for (int i = 0; i < INSERTS_PER_THREAD; i++) {
+                        long begin = System.nanoTime();
+                        userRepository.save(user(strategy + "-" + thread + "-" + i));
+                        nanos[i] = System.nanoTime() - begin;
+                    }
+                    return nanos;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            long[] nanos = new long[0];
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                long[] merged = Arrays.copyOf(nanos, nanos.length + latencies.length);
+                System.arraycopy(latencies, 0, merged, nanos.length, latencies.length);
+                nanos = merged;
+            }
+            double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+            executor.shutdown();
+            Arrays.sort(nanos);
+
+            System.out.printf("%-10s threads=%d inserts=%,d throughput=%,.0f/s avg=%.3fms p99=%.3fms%n",
+                    strategy, THREADS, nanos.length, nanos.length / seconds,
+                    Arrays.stream(nanos).average().orElse(0) / 1_000_000.0,
+                    nanos[(int) Math.ceil(nanos.length * 0.99) - 1] / 1_000_000.0);
+        }
+    }
+
+    private static User user(String loginId) {
+        return User.builder()
+                .nickname("닉네임")
+                .loginId(loginId)
+                .password("비밀번호")
+                .build();
+    }
+}
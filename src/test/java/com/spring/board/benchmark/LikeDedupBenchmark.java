@@ -0,0 +1,143 @@
+package com.spring.board.benchmark;
+
+import com.spring.board.domain.Board;
+import com.spring.board.domain.Like;
+import com.spring.board.domain.User;
+import com.spring.board.exception.like.DuplicationLikeException;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.LikeRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.service.LikeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 적은 (회원, 게시글) 쌍에 동시 좋아요를 몰아 기존 조회 후 저장 방식과 제약 조건 기반 단일 insert 방식을 비교한다.
+ * 기존 방식에서 제약 조건에 걸린 건수는 제약이 없었다면 중복 행이 되었을 경합이다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class LikeDedupBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 500;
+    private static final int USER_COUNT = 50;
+    private static final int BOARD_COUNT = 20;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    LikeRepository likeRepository;
+
+    @Autowired
+    LikeService likeService;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("좋아요 중복 방지 방식별 동시 처리량과 중복 행 수 측정")
+    void measure() throws Exception {
+        run("find-then-insert", this::findThenInsert);
+        run("unique-constraint", likeService::like);
+    }
+
+    private void findThenInsert(Long boardId, Long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId).get();
+            Board board = boardRepository.findById(boardId).get();
+            if (likeRepository.findByBoardIdAndUserId(boardId, userId).isPresent()) {
+                throw new DuplicationLikeException();
+            }
+            likeRepository.saveAndFlush(Like.builder()
+                    .user(user)
+                    .board(board)
+                    .build());
+            boardRepository.addLikeCount(boardId, 1);
+        });
+    }
+
+    private void run(String name, BiConsumer<Long, Long> like) throws Exception {
+        likeRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        List<User> users = userRepository.saveAll(IntStream.range(0, USER_COUNT)
+                .mapToObj(i -> User.builder()
+                        .nickname("닉네임" + i)
+                        .loginId("benchmark" + i)
+                        .password("비밀번호")
+                        .build())
+                .collect(Collectors.toList()));
+        List<Board> boards = boardRepository.saveAll(IntStream.range(0, BOARD_COUNT)
+                .mapToObj(i -> Board.builder()
+                        .title("제목" + i)
+                        .content("내용" + i)
+                        .user(users.get(0))
+                        .build())
+                .collect(Collectors.toList()));
+
+        AtomicInteger duplicated = new AtomicInteger();
+        AtomicInteger raced = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    Long userId = users.get(random.nextInt(USER_COUNT)).getId();
+                    Long boardId = boards.get(random.nextInt(BOARD_COUNT)).getId();
+                    try {
+                        like.accept(boardId, userId);
+                    } catch (DuplicationLikeException e) {
+                        duplicated.incrementAndGet();
+                    } catch (DataIntegrityViolationException e) {
+                        raced.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+        executor.shutdown();
+
+        Long duplicateRows = jdbcTemplate.queryForObject("select count(*) from (select board_id, user_id from likes " +
+                "group by board_id, user_id having count(*) > 1) d", Long.class);
+        System.out.printf("%-18s requests=%,d throughput=%,.0f/s rejected=%,d races=%,d duplicated pairs=%d%n",
+                name, THREADS * REQUESTS_PER_THREAD, THREADS * REQUESTS_PER_THREAD / seconds,
+                duplicated.get(), raced.get(), duplicateRows);
+    }
+}
@@ -0,0 +1,148 @@
+package com.spring.board.benchmark;
+
+import com.spring.board.domain.User;
+import com.spring.board.exception.user.DuplicationLoginIdException;
+import com.spring.board.login.LoginIdFilter;
+import com.spring.board.login.PasswordHasher;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.request.user.SaveUserRequest;
+import com.spring.board.service.UserService;
+import com.spring.board.support.DatabaseCleaner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.spring.board.domain.Grade.SILVER;
+
+/**
+ * 기존 회원이 많은 상태에서 신규 가입과 중복 가입을 섞어 보내 항상 조회 후 저장하는 방식과
+ * 블룸 필터로 조회를 생략하고 유니크 제약으로 마무리하는 방식의 가입 처리량을 비교한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class SignUpBenchmark {
+
+    private static final int EXISTING_USERS = 100_000;
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 500;
+    private static final int DUPLICATE_PERCENT = 10;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    LoginIdFilter loginIdFilter;
+
+    @Autowired
+    PasswordHasher passwordHasher;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("가입 중복 검사 방식별 동시 가입 처리량 측정")
+    void measure() throws Exception {
+        run("find-then-insert", this::findThenInsert);
+        run("bloom-filter", userService::save);
+    }
+
+    private void findThenInsert(SaveUserRequest request) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userRepository.findByLoginId(request.getLoginId()).isPresent()) {
+                throw new DuplicationLoginIdException();
+            }
+            userRepository.saveAndFlush(User.builder()
+                    .nickname(request.getNickname())
+                    .loginId(request.getLoginId())
+                    .password(passwordHasher.hash(request.getPassword()))
+                    .grade(SILVER)
+                    .build());
+        });
+    }
+
+    private void run(String name, Consumer<SaveUserRequest> signUp) throws Exception {
+        databaseCleaner.clean();
+        seed();
+        loginIdFilter.warmUp();
+
+        long skippedBefore = loginIdFilter.getSkippedCount();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    String loginId = random.nextInt(100) < DUPLICATE_PERCENT
+                            ? "existing" + random.nextInt(EXISTING_USERS)
+                            : name + "-" + thread + "-" + i;
+                    try {
+                        signUp.accept(request(loginId));
+                    } catch (DuplicationLoginIdException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+        executor.shutdown();
+
+        System.out.printf("%-18s requests=%,d throughput=%,.0f/s rejected=%,d skipped lookups=%,d%n",
+                name, THREADS * REQUESTS_PER_THREAD, THREADS * REQUESTS_PER_THREAD / seconds,
+                rejected.get(), loginIdFilter.getSkippedCount() - skippedBefore);
+    }
+
+    private void seed() {
+        for (int from = 0; from < EXISTING_USERS; from += BATCH_SIZE) {
+            List<Object[]> rows = IntStream.range(from, Math.min(from + BATCH_SIZE, EXISTING_USERS))
+                    .mapToObj(i -> new Object[]{(long) i + 1, "닉네임" + i, "existing" + i, "비밀번호", SILVER.name()})
+                    .collect(Collectors.toList());
+            jdbcTemplate.batchUpdate("insert into users (user_id, nickname, login_id, password, grade, board_count, " +
+                    "deleted) values (?, ?, ?, ?, ?, 0, false)", rows);
+        }
+    }
+
+    private static SaveUserRequest request(String loginId) {
+        SaveUserRequest request = new SaveUserRequest();
+        request.setNickname("닉네임");
+        request.setLoginId(loginId);
+        request.setPassword("비밀번호");
+        return request;
+    }
+}
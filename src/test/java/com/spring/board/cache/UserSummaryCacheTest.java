@@ -0,0 +1,123 @@
+package com.spring.board.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.spring.board.domain.Grade.SILVER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserSummaryCacheTest {
+
+    private final List<List<Long>> loads = new ArrayList<>();
+
+    private final Function<Collection<Long>, List<UserSummary>> loader = ids -> {
+        loads.add(new ArrayList<>(ids));
+        return ids.stream()
+                .filter(id -> id > 0)
+                .map(id -> new UserSummary(id, "닉네임" + id, SILVER))
+                .collect(Collectors.toList());
+    };
+
+    @Test
+    @DisplayName("놓친 id 만 한 번에 조회 테스트")
+    void batchLoadTest() {
+        //given
+        UserSummaryCache cache = new UserSummaryCache(loader, 100, Duration.ofMinutes(1));
+        cache.get(1L);
+
+        //when
+        Map<Long, UserSummary> users = cache.getAll(List.of(1L, 2L, 3L, 2L, -1L));
+
+        //then
+        assertEquals(List.of(List.of(1L), List.of(2L, 3L, -1L)), loads);
+        assertEquals("닉네임2", users.get(2L).getNickname());
+        assertNull(users.get(-1L));
+        assertEquals(3, users.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("가득 찼을 때 자주 조회된 회원을 밀어내지 않음 테스트")
+    void admissionTest() {
+        //given
+        UserSummaryCache cache = new UserSummaryCache(loader, 2, Duration.ofMinutes(1));
+        for (int i = 0; i < 5; i++) {
+            cache.getAll(List.of(1L, 2L));
+        }
+
+        //when
+        cache.get(3L);
+        int loadsBefore = loads.size();
+        cache.getAll(List.of(1L, 2L));
+
+        //then
+        assertEquals(loadsBefore, loads.size());
+        assertEquals(1, cache.getRejectionCount());
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    @DisplayName("자주 조회되는 새 회원은 들어옴 테스트")
+    void admitFrequentTest() {
+        //given
+        UserSummaryCache cache = new UserSummaryCache(loader, 2, Duration.ofMinutes(1));
+        cache.getAll(List.of(1L, 2L));
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            cache.get(3L);
+        }
+        int loadsBefore = loads.size();
+        cache.get(3L);
+
+        //then
+        assertEquals(loadsBefore, loads.size());
+        assertTrue(cache.getEvictionCount() >= 1);
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    @DisplayName("무효화 후 다시 조회 테스트")
+    void evictTest() {
+        //given
+        UserSummaryCache cache = new UserSummaryCache(loader, 100, Duration.ofMinutes(1));
+        cache.get(1L);
+
+        //when
+        cache.evict(1L);
+        cache.get(1L);
+
+        //then
+        assertEquals(2, loads.size());
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화된 회원은 캐시하지 않음 테스트")
+    void evictWhileLoadingTest() {
+        //given
+        UserSummaryCache[] holder = new UserSummaryCache[1];
+        UserSummaryCache cache = new UserSummaryCache(ids -> {
+            holder[0].evict(1L);
+            return loader.apply(ids);
+        }, 100, Duration.ofMinutes(1));
+        holder[0] = cache;
+
+        //when
+        cache.get(1L);
+
+        //then
+        assertEquals(0, cache.getSize());
+    }
+}
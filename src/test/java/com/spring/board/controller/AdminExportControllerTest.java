@@ -0,0 +1,147 @@
+package com.spring.board.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.board.domain.Board;
+import com.spring.board.domain.Comment;
+import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.CommentRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.support.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.filter.CharacterEncodingFilter;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.spring.board.Const.LOGIN_USER;
+import static com.spring.board.domain.Grade.ADMIN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ExtendWith(RestDocumentationExtension.class)
+class AdminExportControllerTest {
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private MockHttpSession mockHttpSession;
+
+    @BeforeEach
+    void setUp(WebApplicationContext webApplicationContext,
+               RestDocumentationContextProvider restDocumentation) {
+
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(documentationConfiguration(restDocumentation))
+                .alwaysDo(print())
+                .addFilters(new CharacterEncodingFilter("UTF-8", true))
+                .build();
+
+        databaseCleaner.clean();
+        mockHttpSession = new MockHttpSession();
+    }
+
+    @Test
+    @DisplayName("/admin/boards/export 게시글 NDJSON 내보내기")
+    void exportTest() throws Exception {
+        //given
+        User admin = userRepository.save(User.builder()
+                .nickname("관리자")
+                .loginId("admin")
+                .password("비밀번호")
+                .grade(ADMIN)
+                .build());
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(admin));
+
+        for (int i = 0; i < 3; i++) {
+            Board board = boardRepository.save(Board.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .user(admin)
+                    .build());
+
+            for (int j = 0; j < i; j++) {
+                commentRepository.save(Comment.builder()
+                        .comment("댓글" + j)
+                        .board(board)
+                        .user(admin)
+                        .build());
+            }
+        }
+
+        //when
+        MvcResult result = mockMvc.perform(get("/admin/boards/export?comments=true")
+                        .session(mockHttpSession))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andDo(document("admin-board-export",
+                        requestParameters(
+                                parameterWithName("comments").description("댓글 포함 여부 (기본값 false)")
+                        )));
+
+        //then
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+
+        JsonNode last = objectMapper.readTree(lines[2]);
+        assertEquals("제목2", last.get("title").asText());
+        assertEquals("내용2", last.get("content").asText());
+        assertEquals(2, last.get("comments").size());
+        assertEquals("댓글0", last.get("comments").get(0).get("comment").asText());
+    }
+
+    @Test
+    @DisplayName("/admin/boards/export 관리자가 아니면 실패")
+    void exportForbiddenTest() throws Exception {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
+
+        //expected
+        mockMvc.perform(get("/admin/boards/export")
+                        .session(mockHttpSession))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,197 @@
+package com.spring.board.controller;
+
+import com.spring.board.domain.Board;
+import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
+import com.spring.board.login.PasswordHasher;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.CommentRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.support.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.filter.CharacterEncodingFilter;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.spring.board.Const.LOGIN_USER;
+import static com.spring.board.domain.Grade.ADMIN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ExtendWith(RestDocumentationExtension.class)
+class AdminImportControllerTest {
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    PasswordHasher passwordHasher;
+
+    private MockMvc mockMvc;
+    private MockHttpSession mockHttpSession;
+    private User admin;
+
+    @BeforeEach
+    void setUp(WebApplicationContext webApplicationContext,
+               RestDocumentationContextProvider restDocumentation) {
+
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(documentationConfiguration(restDocumentation))
+                .alwaysDo(print())
+                .addFilters(new CharacterEncodingFilter("UTF-8", true))
+                .build();
+
+        databaseCleaner.clean();
+
+        admin = userRepository.save(User.builder()
+                .nickname("관리자")
+                .loginId("admin")
+                .password("비밀번호")
+                .grade(ADMIN)
+                .build());
+        mockHttpSession = new MockHttpSession();
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(admin));
+    }
+
+    @Test
+    @DisplayName("/admin/users/import 회원 일괄 등록")
+    void importUsersTest() throws Exception {
+        //given
+        String body = "{\"nickname\":\"닉네임1\",\"loginId\":\"importer001\",\"password\":\"password1!\"}\n" +
+                "{\"nickname\":\"닉네임2\",\"loginId\":\"importer001\",\"password\":\"password1!\"}\n" +
+                "{\"nickname\":\"닉네임3\",\"loginId\":\"importer003\"\n" +
+                "{\"nickname\":\"닉네임4\",\"loginId\":\"importer004\",\"password\":\"password1!\"}\n";
+
+        //expected
+        mockMvc.perform(post("/admin/users/import")
+                        .session(mockHttpSession)
+                        .contentType(NDJSON)
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rejects[0].line").value(3))
+                .andExpect(jsonPath("$.rejects[1].line").value(2))
+                .andExpect(jsonPath("$.rejects[1].reason").value("이미 존재하는 아이디입니다."))
+                .andDo(document("admin-user-import",
+                        responseFields(
+                                fieldWithPath("imported").description("등록된 행 수"),
+                                fieldWithPath("rejected").description("거부된 행 수"),
+                                fieldWithPath("elapsedMillis").description("처리 시간 (ms)"),
+                                fieldWithPath("rowsPerSecond").description("초당 등록 행 수"),
+                                fieldWithPath("rejects[].line").description("거부된 줄 번호 (최대 100개)"),
+                                fieldWithPath("rejects[].reason").description("거부 사유")
+                        )));
+
+        User imported = userRepository.findByLoginId("importer004").orElseThrow();
+        assertTrue(PasswordHasher.isHashed(imported.getPassword()));
+        assertTrue(passwordHasher.matches("password1!", imported.getPassword()));
+    }
+
+    @Test
+    @DisplayName("/admin/boards/import 게시글 일괄 등록")
+    void importBoardsTest() throws Exception {
+        //given
+        String content = "긴 본문 ".repeat(500);
+        String body = "{\"userId\":" + admin.getId() + ",\"title\":\"제목1\",\"content\":\"" + content + "\"}\n" +
+                "{\"userId\":1,\"title\":\"제목2\",\"content\":\"내용\"}\n" +
+                "{\"userId\":" + admin.getId() + ",\"title\":\"\",\"content\":\"내용\"}\n";
+
+        //when
+        mockMvc.perform(post("/admin/boards/import")
+                        .session(mockHttpSession)
+                        .contentType(NDJSON)
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rejects[0].reason").value("제목을 입력하세요."))
+                .andExpect(jsonPath("$.rejects[1].reason").value("존재하지 않는 회원입니다."))
+                .andDo(document("admin-board-import"));
+
+        //then
+        Board board = boardRepository.findAll().get(0);
+        Board saved = boardRepository.findWithAll(board.getId()).get();
+        assertEquals("제목1", saved.getTitle());
+        assertEquals(content, saved.getContent());
+        assertEquals(Board.PREVIEW_LENGTH, saved.getPreview().length());
+        assertTrue(saved.getBody().isCompressed());
+    }
+
+    @Test
+    @DisplayName("/admin/comments/import 댓글 일괄 등록 후 댓글 수 반영")
+    void importCommentsTest() throws Exception {
+        //given
+        Board board = boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용")
+                .user(admin)
+                .build());
+        String row = "{\"boardId\":" + board.getId() + ",\"userId\":" + admin.getId() + ",\"comment\":\"댓글\"}\n";
+        String body = row + row + "{\"boardId\":1,\"userId\":" + admin.getId() + ",\"comment\":\"댓글\"}\n";
+
+        //when
+        mockMvc.perform(post("/admin/comments/import")
+                        .session(mockHttpSession)
+                        .contentType(NDJSON)
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andDo(document("admin-comment-import"));
+
+        //then
+        assertEquals(2, commentRepository.count());
+        assertEquals(2, boardRepository.findById(board.getId()).get().getCommentCount());
+    }
+
+    @Test
+    @DisplayName("/admin/boards/import 관리자가 아니면 실패")
+    void importForbiddenTest() throws Exception {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
+
+        //expected
+        mockMvc.perform(post("/admin/boards/import")
+                        .session(mockHttpSession)
+                        .contentType(NDJSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+}
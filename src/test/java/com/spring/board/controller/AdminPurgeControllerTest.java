@@ -0,0 +1,94 @@
+package com.spring.board.controller;
+
+import com.spring.board.domain.User;
+import com.spring.board.domain.UserPurgeJob;
+import com.spring.board.login.LoginUser;
+import com.spring.board.repository.UserPurgeJobRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.support.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.filter.CharacterEncodingFilter;
+
+import static com.spring.board.Const.LOGIN_USER;
+import static com.spring.board.domain.Grade.ADMIN;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ExtendWith(RestDocumentationExtension.class)
+class AdminPurgeControllerTest {
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserPurgeJobRepository userPurgeJobRepository;
+
+    private MockMvc mockMvc;
+    private MockHttpSession mockHttpSession;
+
+    @BeforeEach
+    void setUp(WebApplicationContext webApplicationContext,
+               RestDocumentationContextProvider restDocumentation) {
+
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(documentationConfiguration(restDocumentation))
+                .alwaysDo(print())
+                .addFilters(new CharacterEncodingFilter("UTF-8", true))
+                .build();
+
+        databaseCleaner.clean();
+
+        User admin = userRepository.save(User.builder()
+                .nickname("관리자")
+                .loginId("purge-admin")
+                .password("비밀번호")
+                .grade(ADMIN)
+                .build());
+        mockHttpSession = new MockHttpSession();
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(admin));
+    }
+
+    @Test
+    @DisplayName("/admin/user/purge/{jobId} 회원 삭제 작업 조회")
+    void getPurgeJobTest() throws Exception {
+        //given
+        UserPurgeJob job = userPurgeJobRepository.save(new UserPurgeJob(1L));
+
+        //expected
+        mockMvc.perform(get("/admin/user/purge/{jobId}", job.getId())
+                        .session(mockHttpSession))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(String.valueOf(job.getId())))
+                .andExpect(jsonPath("$.userId").value("1"))
+                .andDo(document("admin-user-purge"));
+    }
+
+    @Test
+    @DisplayName("/admin/user/purge/{jobId} 존재하지 않는 작업 조회")
+    void purgeJobNotFoundTest() throws Exception {
+        //expected
+        mockMvc.perform(get("/admin/user/purge/{jobId}", 1L)
+                        .session(mockHttpSession))
+                .andExpect(status().isNotFound())
+                .andDo(document("admin-user-purge-not-found"));
+    }
+}
@@ -2,11 +2,18 @@ package com.spring.board.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.board.domain.Board;
+import com.spring.board.domain.Comment;
 import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.CommentRepository;
 import com.spring.board.repository.UserRepository;
 import com.spring.board.request.board.EditBoardRequest;
 import com.spring.board.request.board.WriteBoardRequest;
+import com.spring.board.request.comment.WriteCommentRequest;
+import com.spring.board.service.CommentService;
+import com.spring.board.support.DatabaseCleaner;
+import com.spring.board.trending.TrendingBoardTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
@@ -39,6 +47,7 @@ import static org.springframework.restdocs.request.RequestDocumentation.paramete
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -46,12 +55,24 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(RestDocumentationExtension.class)
 class BoardControllerTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     UserRepository userRepository;
 
     @Autowired
     BoardRepository boardRepository;
 
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    TrendingBoardTracker trendingBoardTracker;
+
+    @Autowired
+    CommentService commentService;
+
     @Mock
     MockHttpSession mockHttpSession;
 
@@ -71,8 +92,7 @@ class BoardControllerTest {
                 .build();
 
         mockHttpSession = new MockHttpSession();
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
+        databaseCleaner.clean();
     }
 
     @Test
@@ -86,7 +106,7 @@ class BoardControllerTest {
                 .build();
 
         User savedUser = userRepository.save(user);
-        mockHttpSession.setAttribute(LOGIN_USER, savedUser);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(savedUser));
 
         Board board = Board.builder()
                 .title("제목")
@@ -101,13 +121,68 @@ class BoardControllerTest {
                         .contentType(APPLICATION_JSON)
                         .session(mockHttpSession))
                 .andExpect(jsonPath("$.nickname").value("닉네임"))
-                .andExpect(jsonPath("$.boardId").value(board.getId()))
+                .andExpect(jsonPath("$.boardId").value(String.valueOf(board.getId())))
                 .andExpect(jsonPath("$.title").value("제목"))
                 .andExpect(jsonPath("$.content").value("내용"))
                 .andExpect(status().isOk())
                 .andDo(document("board-get"));
     }
 
+    @Test
+    @DisplayName("/board/{boardId} ETag 일치 시 304 응답")
+    void getNotModifiedTest() throws Exception {
+        //given
+        User savedUser = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("패스워드")
+                .build());
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(savedUser));
+
+        Board board = boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용")
+                .user(savedUser)
+                .build());
+
+        String eTag = mockMvc.perform(get("/board/{boardId}", board.getId())
+                        .session(mockHttpSession))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //expected
+        mockMvc.perform(get("/board/{boardId}", board.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .session(mockHttpSession))
+                .andExpect(status().isNotModified())
+                .andDo(document("board-notModified"));
+
+        WriteCommentRequest request = new WriteCommentRequest();
+        request.setComment("댓글");
+        commentService.writeComment(board.getId(), request, LoginUser.from(savedUser));
+
+        mockMvc.perform(get("/board/{boardId}", board.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .session(mockHttpSession))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].comment").value("댓글"));
+    }
+
+    @Test
+    @DisplayName("/boards 목록 변경이 없으면 304 응답")
+    void getAllNotModifiedTest() throws Exception {
+        //given
+        String eTag = mockMvc.perform(get("/boards"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //expected
+        mockMvc.perform(get("/boards")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("/boards 게시글 전체 조회")
     void getAllTest() throws Exception {
@@ -139,6 +214,85 @@ class BoardControllerTest {
                 .andDo(document("board-getAll"));
     }
 
+    @Test
+    @DisplayName("/boards?cursor= 게시글 커서 기반 조회")
+    void getAllByCursorTest() throws Exception {
+        //given
+        User user = User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("패스워드")
+                .build();
+
+        User savedUser = userRepository.save(user);
+
+        List<Board> boards = IntStream.range(0, 20).mapToObj(i -> Board.builder()
+                        .title("제목" + i)
+                        .content("내용" + i)
+                        .user(savedUser)
+                        .build())
+                .collect(Collectors.toList());
+
+        boardRepository.saveAll(boards);
+
+        //expected
+        mockMvc.perform(get("/boards?cursor=&size=10")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contents.length()", is(10)))
+                .andExpect(jsonPath("$.contents[0].title").value("제목19"))
+                .andExpect(jsonPath("$.contents[9].title").value("제목10"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andDo(document("board-getAllByCursor",
+                        requestParameters(
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 빈 값)"),
+                                parameterWithName("size").description("페이지 크기 (최대 100)")
+                        )));
+    }
+
+    @Test
+    @DisplayName("/boards/trending 인기 게시글 조회")
+    void getTrendingTest() throws Exception {
+        //given
+        User savedUser = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("패스워드")
+                .build());
+
+        List<Board> boards = IntStream.range(0, 3).mapToObj(i -> Board.builder()
+                        .title("제목" + i)
+                        .content("내용" + i)
+                        .user(savedUser)
+                        .build())
+                .collect(Collectors.toList());
+
+        boardRepository.saveAll(boards);
+
+        for (int i = 0; i < 3; i++) {
+            Board board = boards.get(i);
+            IntStream.range(0, i + 1).forEach(j -> commentRepository.save(Comment.builder()
+                    .comment("댓글")
+                    .board(board)
+                    .user(savedUser)
+                    .build()));
+        }
+
+        trendingBoardTracker.rebuild();
+
+        //expected
+        mockMvc.perform(get("/boards/trending?size=2")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].title").value("제목2"))
+                .andExpect(jsonPath("$[1].title").value("제목1"))
+                .andDo(document("board-trending",
+                        requestParameters(
+                                parameterWithName("size").description("조회할 게시글 수")
+                        )));
+    }
+
     @Test
     @DisplayName("/board/search 게시글 검색 조회")
     void searchTest() throws Exception {
@@ -189,7 +343,7 @@ class BoardControllerTest {
 
         User savedUser = userRepository.save(user);
 
-        mockHttpSession.setAttribute(LOGIN_USER, savedUser);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(savedUser));
 
         WriteBoardRequest request = new WriteBoardRequest();
         request.setTitle("제목");
@@ -240,7 +394,7 @@ class BoardControllerTest {
 
         User savedUser = userRepository.save(user);
 
-        mockHttpSession.setAttribute(LOGIN_USER, savedUser);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(savedUser));
 
         Board board = Board.builder()
                 .title("제목")
@@ -253,6 +407,7 @@ class BoardControllerTest {
         EditBoardRequest request = new EditBoardRequest();
         request.setTitle("제목수정");
         request.setContent("내용수정");
+        request.setVersion(board.getVersion());
 
         String json = objectMapper.writeValueAsString(request);
 
@@ -263,14 +418,51 @@ class BoardControllerTest {
                         .content(json))
                 .andExpect(jsonPath("$.title").value("제목수정"))
                 .andExpect(jsonPath("$.content").value("내용수정"))
+                .andExpect(jsonPath("$.version").value(board.getVersion() + 1))
                 .andExpect(status().isOk())
                 .andDo(document("board-edit",
                         requestFields(
                                 fieldWithPath("title").description("제목수정"),
-                                fieldWithPath("content").description("내용수정")
+                                fieldWithPath("content").description("내용수정"),
+                                fieldWithPath("version").description("조회한 게시글 버전 (생략 시 마지막 수정 반영)").optional()
                         )));
     }
 
+    @Test
+    @DisplayName("/board/edit/{boardId} 조회 이후 변경된 게시글 수정")
+    void editStaleBoardTest() throws Exception {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("패스워드")
+                .build());
+
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
+
+        Board board = boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용")
+                .user(user)
+                .build());
+
+        EditBoardRequest request = new EditBoardRequest();
+        request.setTitle("제목수정");
+        request.setContent("내용수정");
+        request.setVersion(board.getVersion() - 1);
+
+        String json = objectMapper.writeValueAsString(request);
+
+        //expected
+        mockMvc.perform(patch("/board/edit/{boardId}", board.getId())
+                        .contentType(APPLICATION_JSON)
+                        .session(mockHttpSession)
+                        .content(json))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("409"))
+                .andDo(document("board-edit-conflict"));
+    }
+
     @Test
     @DisplayName("/board/edit/{boardId} 존재하지 않는 게시글 수정")
     void editNonExistBoardTest() throws Exception {
@@ -282,7 +474,7 @@ class BoardControllerTest {
 
         User savedUser = userRepository.save(user);
 
-        mockHttpSession.setAttribute(LOGIN_USER, savedUser);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(savedUser));
 
         EditBoardRequest request = new EditBoardRequest();
         request.setTitle("제목수정");
@@ -328,7 +520,7 @@ class BoardControllerTest {
 
         User savedUser = userRepository.save(user);
 
-        mockHttpSession.setAttribute(LOGIN_USER, savedUser);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(savedUser));
 
         Board board = Board.builder()
                 .title("제목")
@@ -358,7 +550,7 @@ class BoardControllerTest {
 
         User savedUser = userRepository.save(user);
 
-        mockHttpSession.setAttribute(LOGIN_USER, savedUser);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(savedUser));
 
         //expected
         mockMvc.perform(delete("/board/delete/{boardId}", 100L)
@@ -4,11 +4,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.board.domain.Board;
 import com.spring.board.domain.Comment;
 import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.CommentRepository;
 import com.spring.board.repository.UserRepository;
 import com.spring.board.request.comment.EditCommentRequest;
 import com.spring.board.request.comment.WriteCommentRequest;
+import com.spring.board.support.DatabaseCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +33,8 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -40,6 +44,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(RestDocumentationExtension.class)
 class CommentControllerTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     UserRepository userRepository;
 
@@ -70,9 +77,7 @@ class CommentControllerTest {
                 .addFilters(new CharacterEncodingFilter("UTF-8", true))
                 .build();
 
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
-        commentRepository.deleteAll();
+        databaseCleaner.clean();
         mockHttpSession = new MockHttpSession();
 
         user = User.builder()
@@ -88,13 +93,45 @@ class CommentControllerTest {
                 .build();
     }
 
+    @Test
+    @DisplayName("/board/{boardId}/comments 댓글 커서 페이징 조회 테스트")
+    void getCommentsControllerTest() throws Exception {
+        //given
+        userRepository.save(user);
+        boardRepository.save(board);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
+
+        for (int i = 1; i <= 3; i++) {
+            commentRepository.save(Comment.builder()
+                    .comment("댓글" + i)
+                    .board(board)
+                    .user(user)
+                    .build());
+        }
+
+        //expected
+        mockMvc.perform(get("/board/{boardId}/comments?cursor=&size=2&replySize=3", board.getId())
+                        .contentType(APPLICATION_JSON)
+                        .session(mockHttpSession))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contents.length()").value(2))
+                .andExpect(jsonPath("$.contents[0].comment").value("댓글1"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andDo(document("comment-getAll",
+                        requestParameters(
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 빈 값)"),
+                                parameterWithName("size").description("댓글 페이지 크기 (최대 100)"),
+                                parameterWithName("replySize").description("댓글마다 포함할 대댓글 수 (최대 100)")
+                        )));
+    }
+
     @Test
     @DisplayName("/board/{boardId}/comment 댓글 작성 테스트")
     void writeCommentControllerTest() throws Exception {
         //given
         userRepository.save(user);
         boardRepository.save(board);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         WriteCommentRequest request = new WriteCommentRequest();
         request.setComment("댓글");
@@ -140,7 +177,7 @@ class CommentControllerTest {
     void NonExistBoardWriteCommentTest() throws Exception {
         //given
         userRepository.save(user);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         WriteCommentRequest request = new WriteCommentRequest();
         request.setComment("댓글");
@@ -162,7 +199,7 @@ class CommentControllerTest {
         //given
         userRepository.save(user);
         boardRepository.save(board);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         Comment comment = Comment.builder()
                 .comment("댓글")
@@ -174,6 +211,7 @@ class CommentControllerTest {
 
         EditCommentRequest request = new EditCommentRequest();
         request.setComment("댓글수정");
+        request.setVersion(comment.getVersion());
 
         String json = objectMapper.writeValueAsString(request);
 
@@ -186,7 +224,8 @@ class CommentControllerTest {
                 .andExpect(status().isOk())
                 .andDo(document("comment-edit",
                         requestFields(
-                                fieldWithPath("comment").description("댓글 수정")
+                                fieldWithPath("comment").description("댓글 수정"),
+                                fieldWithPath("version").description("조회한 댓글 버전 (생략 시 마지막 수정 반영)").optional()
                         )));
     }
 
@@ -224,7 +263,7 @@ class CommentControllerTest {
         //given
         userRepository.save(user);
         boardRepository.save(board);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         Comment comment = Comment.builder()
                 .comment("댓글")
@@ -254,7 +293,7 @@ class CommentControllerTest {
         //given
         userRepository.save(user);
         boardRepository.save(board);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         Comment comment = Comment.builder()
                 .comment("댓글")
@@ -284,7 +323,7 @@ class CommentControllerTest {
         //given
         userRepository.save(user);
         boardRepository.save(board);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         Comment comment = Comment.builder()
                 .comment("댓글")
@@ -307,7 +346,8 @@ class CommentControllerTest {
                 .andExpect(status().isNotFound())
                 .andDo(document("comment-notFound",
                         requestFields(
-                                fieldWithPath("comment").description("댓글 수정")
+                                fieldWithPath("comment").description("댓글 수정"),
+                                fieldWithPath("version").description("조회한 댓글 버전 (생략 시 마지막 수정 반영)").optional()
                         )));
     }
 
@@ -317,7 +357,7 @@ class CommentControllerTest {
         //given
         userRepository.save(user);
         boardRepository.save(board);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         Comment comment = Comment.builder()
                 .comment("댓글")
@@ -367,7 +407,7 @@ class CommentControllerTest {
         //given
         userRepository.save(user);
         boardRepository.save(board);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         Comment comment = Comment.builder()
                 .comment("댓글")
@@ -391,7 +431,7 @@ class CommentControllerTest {
         //given
         userRepository.save(user);
         boardRepository.save(board);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         Comment comment = Comment.builder()
                 .comment("댓글")
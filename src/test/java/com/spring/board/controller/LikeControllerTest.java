@@ -4,9 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.board.domain.Board;
 import com.spring.board.domain.Like;
 import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.LikeRepository;
 import com.spring.board.repository.UserRepository;
+import com.spring.board.support.DatabaseCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,8 +24,6 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
-import java.util.Optional;
-
 import static com.spring.board.Const.LOGIN_USER;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -38,6 +38,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(RestDocumentationExtension.class)
 class LikeControllerTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     UserRepository userRepository;
 
@@ -69,9 +72,7 @@ class LikeControllerTest {
                 .addFilters(new CharacterEncodingFilter("UTF-8", true))
                 .build();
 
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
-        likeRepository.deleteAll();
+        databaseCleaner.clean();
 
         mockHttpSession = new MockHttpSession();
 
@@ -82,7 +83,7 @@ class LikeControllerTest {
                 .build();
 
         userRepository.save(user);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         board = Board.builder()
                 .user(user)
@@ -112,12 +113,9 @@ class LikeControllerTest {
     @DisplayName("/board/{boardId}/cancelLike")
     void cancelLikeTest() throws Exception {
         //given
-        Optional<Like> findLike = likeRepository.findByBoardIdAndUserId(board.getId(), user.getId());
-
         Like like = Like.builder()
                 .board(board)
                 .user(user)
-                .like(findLike)
                 .build();
 
         likeRepository.save(like);
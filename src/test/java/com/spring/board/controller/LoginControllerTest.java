@@ -2,8 +2,10 @@ package com.spring.board.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.UserRepository;
 import com.spring.board.request.login.LoginRequest;
+import com.spring.board.support.DatabaseCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,11 +14,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.SerializationUtils;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
+import static com.spring.board.Const.LOGIN_USER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
@@ -31,6 +37,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(RestDocumentationExtension.class)
 class LoginControllerTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     private MockMvc mockMvc;
 
     @Autowired
@@ -49,7 +58,7 @@ class LoginControllerTest {
                 .addFilters(new CharacterEncodingFilter("UTF-8", true))
                 .build();
 
-        userRepository.deleteAll();
+        databaseCleaner.clean();
     }
 
     @Test
@@ -83,6 +92,36 @@ class LoginControllerTest {
                         )));
     }
 
+    @Test
+    @DisplayName("/login 성공 시 세션에 엔티티 대신 로그인 회원 정보만 저장된다")
+    void loginSessionPrincipalTest() throws Exception {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+
+        LoginRequest request = new LoginRequest();
+        request.setLoginId("아이디");
+        request.setPassword("비밀번호");
+        String json = objectMapper.writeValueAsString(request);
+
+        //when
+        MockHttpSession session = (MockHttpSession) mockMvc.perform(post("/login")
+                        .contentType(APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getRequest()
+                .getSession(false);
+
+        //then
+        Object principal = session.getAttribute(LOGIN_USER);
+        assertEquals(LoginUser.from(user), principal);
+        assertEquals(LoginUser.from(user), SerializationUtils.deserialize(SerializationUtils.serialize(principal)));
+    }
+
     @Test
     @DisplayName("/login 실패 테스트")
     void failLoginTest() throws Exception {
@@ -5,12 +5,14 @@ import com.spring.board.domain.Board;
 import com.spring.board.domain.Comment;
 import com.spring.board.domain.Reply;
 import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.CommentRepository;
 import com.spring.board.repository.ReplyRepository;
 import com.spring.board.repository.UserRepository;
 import com.spring.board.request.reply.EditReplyRequest;
 import com.spring.board.request.reply.WriteReplyRequest;
+import com.spring.board.support.DatabaseCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,7 +25,6 @@ import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
@@ -38,11 +39,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@Transactional
 @SpringBootTest
 @ExtendWith(RestDocumentationExtension.class)
 class ReplyControllerTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     UserRepository userRepository;
 
@@ -77,10 +80,7 @@ class ReplyControllerTest {
                 .addFilters(new CharacterEncodingFilter("UTF-8", true))
                 .build();
 
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
-        commentRepository.deleteAll();
-        replyRepository.deleteAll();
+        databaseCleaner.clean();
 
         mockHttpSession = new MockHttpSession();
 
@@ -96,14 +96,15 @@ class ReplyControllerTest {
                 .user(user)
                 .build();
 
+        userRepository.save(user);
+        boardRepository.save(board);
+
         comment = Comment.builder()
                 .comment("댓글")
                 .user(user)
                 .board(board)
                 .build();
 
-        userRepository.save(user);
-        boardRepository.save(board);
         commentRepository.save(comment);
     }
 
@@ -114,7 +115,7 @@ class ReplyControllerTest {
         WriteReplyRequest request = new WriteReplyRequest();
         request.setReply("대댓글");
 
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
         String json = objectMapper.writeValueAsString(request);
 
         //expected
@@ -138,7 +139,7 @@ class ReplyControllerTest {
         WriteReplyRequest request = new WriteReplyRequest();
         request.setReply("대댓글");
 
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
         String json = objectMapper.writeValueAsString(request);
 
         //expected
@@ -179,10 +180,11 @@ class ReplyControllerTest {
                 .build();
 
         replyRepository.save(reply);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         EditReplyRequest request = new EditReplyRequest();
         request.setReply("대댓글수정");
+        request.setVersion(reply.getVersion());
 
         String json = objectMapper.writeValueAsString(request);
 
@@ -197,7 +199,8 @@ class ReplyControllerTest {
                 .andExpect(status().isOk())
                 .andDo(document("reply-edit",
                         requestFields(
-                                fieldWithPath("reply").description("대댓글 수정")
+                                fieldWithPath("reply").description("대댓글 수정"),
+                                fieldWithPath("version").description("조회한 대댓글 버전 (생략 시 마지막 수정 반영)").optional()
                         )));
     }
 
@@ -213,7 +216,7 @@ class ReplyControllerTest {
                 .build();
 
         replyRepository.save(reply);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         EditReplyRequest request = new EditReplyRequest();
         request.setReply("");
@@ -242,7 +245,7 @@ class ReplyControllerTest {
                 .build();
 
         replyRepository.save(reply);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         EditReplyRequest request = new EditReplyRequest();
         request.setReply("대댓글수정");
@@ -298,7 +301,7 @@ class ReplyControllerTest {
                 .build();
 
         replyRepository.save(reply);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         //expected
         mockMvc.perform(delete("/board/{boardId}/{commentId}/deleteReply/{replyId}",
@@ -321,7 +324,7 @@ class ReplyControllerTest {
                 .build();
 
         replyRepository.save(reply);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         //expected
         mockMvc.perform(delete("/board/{boardId}/{commentId}/deleteReply/{replyId}",
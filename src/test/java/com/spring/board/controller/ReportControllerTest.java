@@ -3,10 +3,11 @@ package com.spring.board.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.board.domain.Board;
 import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
-import com.spring.board.repository.ReportRepository;
 import com.spring.board.repository.UserRepository;
 import com.spring.board.request.report.ReportRequest;
+import com.spring.board.support.DatabaseCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,13 +39,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class ReportControllerTest {
 
     @Autowired
-    UserRepository userRepository;
+    DatabaseCleaner databaseCleaner;
 
     @Autowired
-    BoardRepository boardRepository;
+    UserRepository userRepository;
 
     @Autowired
-    ReportRepository reportRepository;
+    BoardRepository boardRepository;
 
     @Mock
     private MockHttpSession mockHttpSession;
@@ -67,9 +68,7 @@ class ReportControllerTest {
                 .addFilters(new CharacterEncodingFilter("UTF-8", true))
                 .build();
 
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
-        reportRepository.deleteAll();
+        databaseCleaner.clean();
 
         mockHttpSession = new MockHttpSession();
 
@@ -96,12 +95,12 @@ class ReportControllerTest {
         //given
         User user1 = User.builder()
                 .nickname("닉네임")
-                .loginId("아이디")
+                .loginId("신고자아이디")
                 .password("비밀번호")
                 .build();
 
         userRepository.save(user1);
-        mockHttpSession.setAttribute(LOGIN_USER, user1);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user1));
 
         ReportRequest request = new ReportRequest();
         request.setReportContent("신고");
@@ -114,7 +113,7 @@ class ReportControllerTest {
                         .session(mockHttpSession)
                         .content(json))
                 .andExpect(jsonPath("$.nickname").value("닉네임"))
-                .andExpect(jsonPath("$.boardId").value(board.getId()))
+                .andExpect(jsonPath("$.boardId").value(String.valueOf(board.getId())))
                 .andExpect(jsonPath("$.title").value("제목"))
                 .andExpect(jsonPath("$.content").value("내용"))
                 .andExpect(jsonPath("$.reportContent").value("신고"))
@@ -131,12 +130,12 @@ class ReportControllerTest {
         //given
         User user1 = User.builder()
                 .nickname("닉네임")
-                .loginId("아이디")
+                .loginId("신고자아이디")
                 .password("비밀번호")
                 .build();
 
         userRepository.save(user1);
-        mockHttpSession.setAttribute(LOGIN_USER, user1);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user1));
 
         ReportRequest request = new ReportRequest();
         request.setReportContent("");
@@ -158,12 +157,12 @@ class ReportControllerTest {
         //given
         User user1 = User.builder()
                 .nickname("닉네임")
-                .loginId("아이디")
+                .loginId("신고자아이디")
                 .password("비밀번호")
                 .build();
 
         userRepository.save(user1);
-        mockHttpSession.setAttribute(LOGIN_USER, user1);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user1));
 
         ReportRequest request = new ReportRequest();
         request.setReportContent("신고");
@@ -194,7 +193,7 @@ class ReportControllerTest {
     @DisplayName("/board/{boardId}/report 자신의 게시글 신고 테스트")
     void createReportInvalidRequestTest() throws Exception {
         //given
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         ReportRequest request = new ReportRequest();
         request.setReportContent("신고");
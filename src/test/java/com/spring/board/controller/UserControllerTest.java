@@ -4,11 +4,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.board.domain.Board;
 import com.spring.board.domain.Like;
 import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.LikeRepository;
 import com.spring.board.repository.UserRepository;
 import com.spring.board.request.user.EditUserRequest;
 import com.spring.board.request.user.SaveUserRequest;
+import com.spring.board.support.DatabaseCleaner;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,7 +28,6 @@ import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -36,6 +37,7 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -45,6 +47,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(RestDocumentationExtension.class)
 class UserControllerTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     UserRepository userRepository;
 
@@ -73,9 +78,7 @@ class UserControllerTest {
                 .build();
 
         mockHttpSession = new MockHttpSession();
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
-        likeRepository.deleteAll();
+        databaseCleaner.clean();
     }
 
     @AfterEach
@@ -100,13 +103,18 @@ class UserControllerTest {
                         .content(json))
                 .andExpect(jsonPath("$.nickname").value("닉네임"))
                 .andExpect(jsonPath("$.loginId").value("testId1234"))
-                .andExpect(jsonPath("$.password").value("testPassword123!"))
+                .andExpect(jsonPath("$.password").doesNotExist())
                 .andExpect(status().isOk())
                 .andDo(document("user-save",
                         requestFields(
                                 fieldWithPath("nickname").description("닉네임"),
                                 fieldWithPath("loginId").description("아이디"),
                                 fieldWithPath("password").description("비밀번호")
+                        ),
+                        responseFields(
+                                fieldWithPath("id").description("회원 ID (문자열)"),
+                                fieldWithPath("nickname").description("닉네임"),
+                                fieldWithPath("loginId").description("아이디")
                         )));
     }
 
@@ -167,7 +175,7 @@ class UserControllerTest {
                 .build();
 
         User savedUser = userRepository.save(user);
-        mockHttpSession.setAttribute(LOGIN_USER, savedUser);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(savedUser));
 
         List<Board> boards = IntStream.range(0, 10).mapToObj(i -> Board.builder()
                         .title("제목" + i)
@@ -199,7 +207,7 @@ class UserControllerTest {
 
         User saveUser = userRepository.save(user);
 
-        mockHttpSession.setAttribute(LOGIN_USER, saveUser);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(saveUser));
 
         EditUserRequest request = new EditUserRequest();
         request.setPassword("새로운비밀번호");
@@ -227,7 +235,7 @@ class UserControllerTest {
                 .build();
 
         User saveUser = userRepository.save(user);
-        mockHttpSession.setAttribute(LOGIN_USER, saveUser);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(saveUser));
 
         EditUserRequest request = new EditUserRequest();
         request.setPassword("새로운비밀번호");
@@ -278,14 +286,25 @@ class UserControllerTest {
                 .build();
 
         userRepository.save(user);
-        mockHttpSession.setAttribute(LOGIN_USER, user);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(user));
 
         //expected
         mockMvc.perform(delete("/user/delete/{userId}", user.getId())
                 .contentType(APPLICATION_JSON)
                 .session(mockHttpSession))
                 .andExpect(status().isOk())
-                .andDo(document("user-delete"));
+                .andExpect(jsonPath("$.userId").value(String.valueOf(user.getId())))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andDo(document("user-delete",
+                        responseFields(
+                                fieldWithPath("jobId").description("회원 삭제 작업 ID (문자열)"),
+                                fieldWithPath("userId").description("삭제할 회원 ID (문자열)"),
+                                fieldWithPath("status").description("작업 상태 (PENDING, RUNNING, DONE, FAILED)"),
+                                fieldWithPath("step").description("진행 단계 (BOARDS, REPLIES, COMMENTS, LIKES, REPORTS, USER)"),
+                                fieldWithPath("deletedRows").description("지금까지 지운 행 수"),
+                                fieldWithPath("attempts").description("실행 횟수"),
+                                fieldWithPath("lastError").description("마지막 실패 사유").optional()
+                        )));
     }
 
     @Test
@@ -319,7 +338,7 @@ class UserControllerTest {
                 .build();
 
         User savedUser = userRepository.save(user);
-        mockHttpSession.setAttribute(LOGIN_USER, savedUser);
+        mockHttpSession.setAttribute(LOGIN_USER, LoginUser.from(savedUser));
 
         Board board = Board.builder()
                 .title("제목")
@@ -329,12 +348,9 @@ class UserControllerTest {
 
         Board savedBoard = boardRepository.save(board);
 
-        Optional<Like> findLike = likeRepository.findByBoardIdAndUserId(board.getId(), user.getId());
-
         Like like = Like.builder()
                 .board(savedBoard)
                 .user(savedUser)
-                .like(findLike)
                 .build();
 
         likeRepository.save(like);
@@ -343,7 +359,7 @@ class UserControllerTest {
         mockMvc.perform(get("/user/{userId}/likeBoards", savedUser.getId())
                         .contentType(APPLICATION_JSON)
                         .session(mockHttpSession))
-                .andExpect(jsonPath("$.[0].boardId").value(savedBoard.getId()))
+                .andExpect(jsonPath("$.[0].boardId").value(String.valueOf(savedBoard.getId())))
                 .andExpect(jsonPath("$.[0].title").value("제목"))
                 .andExpect(jsonPath("$.[0].content").value("내용"))
                 .andExpect(status().isOk())
@@ -0,0 +1,79 @@
+package com.spring.board.counter;
+
+import com.spring.board.domain.Board;
+import com.spring.board.domain.Comment;
+import com.spring.board.domain.User;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.CommentRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.support.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class BoardCountReconcilerTest {
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    BoardCountReconciler boardCountReconciler;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @BeforeEach
+    void clean() {
+        databaseCleaner.clean();
+    }
+
+    @Test
+    @DisplayName("카운터 불일치 보정 테스트")
+    void reconcileTest() {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+
+        Board drifted = boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용")
+                .user(user)
+                .build());
+
+        boardRepository.save(Board.builder()
+                .title("제목2")
+                .content("내용2")
+                .user(user)
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            commentRepository.save(Comment.builder()
+                    .comment("댓글" + i)
+                    .board(drifted)
+                    .user(user)
+                    .build());
+        }
+
+        //when
+        int repaired = boardCountReconciler.reconcile();
+
+        //then
+        assertEquals(1, repaired);
+        assertEquals(3, boardRepository.findById(drifted.getId()).get().getCommentCount());
+        assertEquals(0, boardCountReconciler.reconcile());
+    }
+}
@@ -0,0 +1,105 @@
+package com.spring.board.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeTest {
+
+    private final AtomicLong now = new AtomicLong(Snowflake.EPOCH + 1_000);
+
+    @Test
+    @DisplayName("시간, 노드 아이디 포함 테스트")
+    void layoutTest() {
+        //given
+        Snowflake snowflake = new Snowflake(7, now::get);
+
+        //when
+        long id = snowflake.nextId();
+
+        //then
+        assertEquals(now.get(), Snowflake.timestampOf(id));
+        assertEquals(7, Snowflake.nodeOf(id));
+    }
+
+    @Test
+    @DisplayName("같은 밀리초 시퀀스 소진 시 다음 밀리초 사용 테스트")
+    void sequenceOverflowTest() {
+        //given
+        Snowflake snowflake = new Snowflake(1, now::get);
+        long last = 0;
+
+        //when
+        for (int i = 0; i <= Snowflake.SEQUENCE_MASK + 1; i++) {
+            long id = snowflake.nextId();
+            assertTrue(id > last);
+            last = id;
+        }
+
+        //then
+        assertEquals(now.get() + 1, Snowflake.timestampOf(last));
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 증가 유지 테스트")
+    void clockBackwardTest() {
+        //given
+        Snowflake snowflake = new Snowflake(1, now::get);
+        long before = snowflake.nextId();
+
+        //when
+        now.addAndGet(-500);
+        long after = snowflake.nextId();
+
+        //then
+        assertTrue(after > before);
+    }
+
+    @Test
+    @DisplayName("동시 발급 중복 없음 테스트")
+    void concurrentTest() throws InterruptedException {
+        //given
+        Snowflake snowflake = new Snowflake(1, System::currentTimeMillis);
+        long[][] ids = new long[8][50_000];
+        Thread[] threads = new Thread[ids.length];
+        for (int i = 0; i < threads.length; i++) {
+            long[] issued = ids[i];
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < issued.length; j++) {
+                    issued[j] = snowflake.nextId();
+                }
+            });
+        }
+
+        //when
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        //then
+        for (long[] issued : ids) {
+            for (int j = 1; j < issued.length; j++) {
+                assertTrue(issued[j] > issued[j - 1]);
+            }
+        }
+        long[] all = Arrays.stream(ids).flatMapToLong(Arrays::stream).sorted().toArray();
+        assertEquals(all.length, Arrays.stream(all).distinct().count());
+    }
+
+    @Test
+    @DisplayName("노드 아이디 범위 검증 테스트")
+    void nodeIdRangeTest() {
+        //expected
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(1024, now::get));
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(-1, now::get));
+    }
+}
@@ -0,0 +1,223 @@
+package com.spring.board.like;
+
+import com.spring.board.cache.BoardListVersion;
+import com.spring.board.domain.Board;
+import com.spring.board.domain.User;
+import com.spring.board.exception.like.DuplicationLikeException;
+import com.spring.board.exception.like.LikeNotFound;
+import com.spring.board.id.Snowflake;
+import com.spring.board.repository.BoardRepository;
+import com.spring.board.repository.LikeRepository;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.response.like.LikeResponse;
+import com.spring.board.service.LikeService;
+import com.spring.board.support.DatabaseCleaner;
+import com.spring.board.trending.TrendingBoardTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "board.like.write-behind.enabled=true",
+        "board.like.write-behind.flush-millis=3600000"
+})
+class LikeWriteBufferTest {
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    LikeRepository likeRepository;
+
+    @Autowired
+    LikeService likeService;
+
+    @Autowired
+    LikeWriteBuffer likeWriteBuffer;
+
+    @Autowired
+    TrendingBoardTracker trendingBoardTracker;
+
+    @Autowired
+    BoardListVersion boardListVersion;
+
+    @Autowired
+    ObjectProvider<Snowflake> snowflake;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    DataSource dataSource;
+
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void clean() {
+        likeWriteBuffer.flush();
+        databaseCleaner.clean();
+
+        user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("패스워드")
+                .build());
+
+        board = boardRepository.save(Board.builder()
+                .user(user)
+                .title("제목")
+                .content("내용")
+                .build());
+    }
+
+    @Test
+    @DisplayName("좋아요는 버퍼에 쌓였다가 flush 시 저장된다")
+    void flushTest() {
+        //given
+        LikeResponse response = likeService.like(board.getId(), user.getId());
+        assertEquals(0, likeRepository.count());
+
+        //when
+        int applied = likeWriteBuffer.flush();
+
+        //then
+        assertEquals(1, applied);
+        assertEquals(1, likeRepository.count());
+        assertEquals(1, boardRepository.findById(board.getId()).get().getLikeCount());
+        assertEquals("닉네임", response.getUserNickname());
+        assertEquals("제목", response.getTitle());
+    }
+
+    @Test
+    @DisplayName("버퍼 안의 좋아요와 취소는 상쇄된다")
+    void cancelOutTest() {
+        //given
+        likeService.like(board.getId(), user.getId());
+
+        //when
+        likeService.cancelLike(board.getId(), user.getId());
+
+        //then
+        assertEquals(0, likeWriteBuffer.getPendingCount());
+        assertEquals(0, likeWriteBuffer.flush());
+        assertEquals(0, likeRepository.count());
+    }
+
+    @Test
+    @DisplayName("저장된 좋아요 취소는 flush 시 삭제된다")
+    void cancelPersistedTest() {
+        //given
+        likeService.like(board.getId(), user.getId());
+        likeWriteBuffer.flush();
+
+        //when
+        likeService.cancelLike(board.getId(), user.getId());
+        likeWriteBuffer.flush();
+
+        //then
+        assertEquals(0, likeRepository.count());
+        assertEquals(0, boardRepository.findById(board.getId()).get().getLikeCount());
+    }
+
+    @Test
+    @DisplayName("버퍼 안의 중복 좋아요, 중복 취소 실패")
+    void duplicateTest() {
+        //given
+        likeService.like(board.getId(), user.getId());
+
+        //expected
+        assertThatThrownBy(() -> likeService.like(board.getId(), user.getId()))
+                .isInstanceOf(DuplicationLikeException.class);
+
+        likeWriteBuffer.flush();
+        likeService.cancelLike(board.getId(), user.getId());
+        assertThatThrownBy(() -> likeService.cancelLike(board.getId(), user.getId()))
+                .isInstanceOf(LikeNotFound.class);
+    }
+
+    @Test
+    @DisplayName("저장된 좋아요 중복, 저장되지 않은 좋아요 취소 실패")
+    void persistedStateTest() {
+        //given
+        likeService.like(board.getId(), user.getId());
+        likeWriteBuffer.flush();
+
+        //expected
+        assertThatThrownBy(() -> likeService.like(board.getId(), user.getId()))
+                .isInstanceOf(DuplicationLikeException.class);
+        assertThatThrownBy(() -> likeService.cancelLike(board.getId(), user.getId() + 1))
+                .isInstanceOf(LikeNotFound.class);
+        assertEquals(0, likeWriteBuffer.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 제약 위반으로 실패하면 한 건씩 다시 저장하고 위반한 건만 버린다")
+    void constraintViolationTest() {
+        //given
+        User other = userRepository.save(User.builder()
+                .nickname("다른닉네임")
+                .loginId("다른아이디")
+                .password("패스워드")
+                .build());
+        JdbcTemplate failing = new JdbcTemplate(dataSource) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (batchArgs.stream().anyMatch(args -> other.getId().equals(args[1]))) {
+                    throw new DataIntegrityViolationException("제약 위반");
+                }
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        LikeWriteBuffer buffer = new LikeWriteBuffer(likeRepository, boardRepository, userRepository,
+                trendingBoardTracker, boardListVersion, failing, snowflake, transactionManager,
+                true, 4, 100, 100, 100);
+        buffer.like(user.getId(), board.getId());
+        buffer.like(other.getId(), board.getId());
+
+        //when
+        int applied = buffer.flush();
+
+        //then
+        assertEquals(1, applied);
+        assertEquals(0, buffer.getPendingCount());
+        assertEquals(1, likeRepository.count());
+        assertTrue(likeRepository.existsByBoardIdAndUserId(board.getId(), user.getId()));
+        assertEquals(1, boardRepository.findById(board.getId()).get().getLikeCount());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 새 쌍은 받지 않는다")
+    void maxPendingTest() {
+        //given
+        LikeWriteBuffer buffer = new LikeWriteBuffer(likeRepository, null, null, null, null, null, null, null,
+                true, 4, 100, 1, 100);
+        assertTrue(buffer.like(1L, 1L));
+
+        //expected
+        assertFalse(buffer.like(2L, 1L));
+        assertTrue(buffer.cancel(1L, 1L));
+        assertTrue(buffer.like(2L, 1L));
+        assertEquals(1, buffer.getPendingCount());
+    }
+}
@@ -0,0 +1,138 @@
+package com.spring.board.login;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.spring.board.domain.Grade.SILVER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileLoginSessionRepositoryTest {
+
+    private static final LoginUser USER = new LoginUser(1L << 60, "닉네임", SILVER);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("다른 노드가 저장한 세션 조회 테스트")
+    void sharedDirectoryTest() {
+        //given
+        FileLoginSessionRepository node1 = new FileLoginSessionRepository(directory.toString());
+        FileLoginSessionRepository node2 = new FileLoginSessionRepository(directory.toString());
+
+        //when
+        node1.save("session1", USER, 1_000L);
+
+        //then
+        LoginSessionEntry entry = node2.find("session1").get();
+        assertEquals(USER, entry.getUser());
+        assertEquals(1_000L, entry.getExpiresAt());
+
+        node2.delete("session1");
+        assertTrue(node1.find("session1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료된 세션만 정리 테스트")
+    void deleteExpiredTest() {
+        //given
+        FileLoginSessionRepository repository = new FileLoginSessionRepository(directory.toString());
+        repository.save("expired", USER, 1_000L);
+        repository.save("alive", USER, 3_000L);
+
+        //when
+        int deleted = repository.deleteExpired(2_000L);
+
+        //then
+        assertEquals(1, deleted);
+        assertTrue(repository.find("expired").isEmpty());
+        assertTrue(repository.find("alive").isPresent());
+    }
+
+    @Test
+    @DisplayName("회원의 세션만 모두 삭제 테스트")
+    void deleteByUserIdTest() {
+        //given
+        FileLoginSessionRepository repository = new FileLoginSessionRepository(directory.toString());
+        repository.save("session1", USER, 1_000L);
+        repository.save("session2", USER, 1_000L);
+        repository.save("other", new LoginUser(7L, "다른닉네임", SILVER), 1_000L);
+
+        //when
+        int deleted = repository.deleteByUserId(USER.getId());
+
+        //then
+        assertEquals(2, deleted);
+        assertTrue(repository.find("session1").isEmpty());
+        assertTrue(repository.find("other").isPresent());
+    }
+
+    @Test
+    @DisplayName("로그아웃으로 지워진 세션은 갱신해도 되살아나지 않는다")
+    void renewTest() {
+        //given
+        FileLoginSessionRepository repository = new FileLoginSessionRepository(directory.toString());
+        repository.save("session1", USER, 1_000L);
+
+        //when
+        boolean renewed = repository.renew("session1", USER, 2_000L);
+        repository.delete("session1");
+        boolean resurrected = repository.renew("session1", USER, 3_000L);
+
+        //then
+        assertTrue(renewed);
+        assertFalse(resurrected);
+        assertTrue(repository.find("session1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("손상된 세션 파일이 있어도 나머지 세션을 정리한다")
+    void corruptFileTest() throws IOException {
+        //given
+        FileLoginSessionRepository repository = new FileLoginSessionRepository(directory.toString());
+        repository.save("session1", USER, 1_000L);
+        repository.save("session2", USER, 1_000L);
+        Files.write(directory.resolve("corrupt"), new byte[]{9});
+
+        //when
+        int deleted = repository.deleteByUserId(USER.getId());
+
+        //then
+        assertEquals(2, deleted);
+        assertFalse(Files.exists(directory.resolve("corrupt")));
+    }
+
+    @Test
+    @DisplayName("경로 문자가 포함된 세션 id 는 조회하지 않는다")
+    void invalidSessionIdTest() {
+        //given
+        FileLoginSessionRepository repository = new FileLoginSessionRepository(directory.resolve("sessions").toString());
+
+        //expected
+        assertTrue(repository.find("../sessions").isEmpty());
+        assertTrue(repository.find(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("세션 이진 형식 크기와 복원 테스트")
+    void codecTest() {
+        //given
+        LoginUser anonymous = new LoginUser(7L, null, null);
+
+        //when
+        byte[] data = LoginSessionCodec.encode(USER, 1_000L);
+
+        //then
+        assertTrue(data.length < 64);
+        assertEquals(1_000L, LoginSessionCodec.readExpiresAt(data));
+        assertEquals(USER, LoginSessionCodec.decode(data).getUser());
+        assertEquals(anonymous, LoginSessionCodec.decode(LoginSessionCodec.encode(anonymous, 0L)).getUser());
+    }
+}
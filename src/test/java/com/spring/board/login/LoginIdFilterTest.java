@@ -0,0 +1,54 @@
+package com.spring.board.login;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoginIdFilterTest {
+
+    @Test
+    @DisplayName("워밍 전에는 모든 아이디 조회 필요 테스트")
+    void notReadyTest() {
+        //given
+        LoginIdFilter filter = new LoginIdFilter(null, 1000, 0.01, 1000);
+
+        //expected
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("아이디"));
+    }
+
+    @Test
+    @DisplayName("추가한 아이디는 항상 포함 테스트")
+    void noFalseNegativeTest() {
+        //given
+        LoginIdFilter filter = new LoginIdFilter(null, 10_000, 0.01, 1000);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+        //when
+        filter.markReady();
+
+        //then
+        IntStream.range(0, 10_000).forEach(i -> assertTrue(filter.mightContain("user" + i)));
+    }
+
+    @Test
+    @DisplayName("오탐률이 설정값 근처 테스트")
+    void falsePositiveRateTest() {
+        //given
+        LoginIdFilter filter = new LoginIdFilter(null, 10_000, 0.01, 1000);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+        filter.markReady();
+
+        //when
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other" + i))
+                .count();
+
+        //then
+        assertTrue(falsePositives < 2_000, "false positives=" + falsePositives);
+    }
+}
@@ -0,0 +1,165 @@
+package com.spring.board.login;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.board.domain.User;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.request.login.LoginRequest;
+import com.spring.board.service.UserService;
+import com.spring.board.support.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.servlet.http.Cookie;
+
+import static com.spring.board.domain.Grade.SILVER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "board.session.store=jdbc")
+class LoginSessionsTest {
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    LoginSessions loginSessions;
+
+    @Autowired
+    LoginSessionRepository loginSessionRepository;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        databaseCleaner.clean();
+        jdbcTemplate.update("delete from login_session");
+    }
+
+    @Test
+    @DisplayName("외부 저장소 세션으로 로그인, 인증, 로그아웃 테스트")
+    void loginWithExternalStoreTest() throws Exception {
+        //given
+        userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+
+        LoginRequest request = new LoginRequest();
+        request.setLoginId("아이디");
+        request.setPassword("비밀번호");
+
+        //when
+        Cookie cookie = mockMvc.perform(post("/login")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getCookie(LoginSessions.COOKIE_NAME);
+
+        //then
+        assertTrue(cookie.isHttpOnly());
+        assertEquals(-1, cookie.getMaxAge());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from login_session", Integer.class));
+
+        mockMvc.perform(get("/reportBoards").cookie(cookie))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/reportBoards"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/logout").cookie(cookie))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/reportBoards").cookie(cookie))
+                .andExpect(status().isUnauthorized());
+        assertTrue(loginSessions.getReadCount() > 0);
+        assertTrue(loginSessions.getWriteCount() > 0);
+    }
+
+    @Test
+    @DisplayName("회원 삭제 시 저장된 세션을 지우고, 남은 세션으로도 인증하지 않는다")
+    void deletedUserTest() throws Exception {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        loginSessionRepository.save("first", LoginUser.from(user), expiresAt);
+        loginSessionRepository.save("second", LoginUser.from(user), expiresAt);
+        loginSessionRepository.save("other", new LoginUser(user.getId() + 1, "다른닉네임", SILVER), expiresAt);
+        mockMvc.perform(get("/reportBoards").cookie(new Cookie(LoginSessions.COOKIE_NAME, "first")))
+                .andExpect(status().isOk());
+
+        //when
+        userService.deleteUser(user.getId(), LoginUser.from(user));
+
+        //then
+        assertTrue(loginSessionRepository.find("first").isEmpty());
+        assertTrue(loginSessionRepository.find("second").isEmpty());
+        assertTrue(loginSessionRepository.find("other").isPresent());
+
+        loginSessionRepository.save("stale", LoginUser.from(user), expiresAt);
+        mockMvc.perform(get("/reportBoards").cookie(new Cookie(LoginSessions.COOKIE_NAME, "stale")))
+                .andExpect(status().isUnauthorized());
+        assertTrue(loginSessionRepository.find("stale").isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 조회 시 지우고 인증하지 않는다")
+    void expiredSessionTest() throws Exception {
+        //given
+        loginSessionRepository.save("expired", new LoginUser(1L, "닉네임", SILVER), System.currentTimeMillis() - 1);
+
+        //expected
+        mockMvc.perform(get("/reportBoards").cookie(new Cookie(LoginSessions.COOKIE_NAME, "expired")))
+                .andExpect(status().isUnauthorized());
+        assertTrue(loginSessionRepository.find("expired").isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료된 세션 일괄 정리 테스트")
+    void sweepExpiredTest() {
+        //given
+        long now = System.currentTimeMillis();
+        LoginUser user = new LoginUser(1L, "닉네임", SILVER);
+        loginSessionRepository.save("expired", user, now - 1);
+        loginSessionRepository.save("alive", user, now + 60_000);
+        loginSessionRepository.save("alive", user, now + 120_000);
+
+        //when
+        int deleted = loginSessions.sweepExpired();
+
+        //then
+        assertEquals(1, deleted);
+        assertEquals(now + 120_000, loginSessionRepository.find("alive").get().getExpiresAt());
+    }
+}
@@ -0,0 +1,106 @@
+package com.spring.board.login;
+
+import com.spring.board.exception.TooManyRequests;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHasherTest {
+
+    @Test
+    @DisplayName("해시 후 검증 테스트")
+    void hashTest() {
+        //given
+        PasswordHasher hasher = new PasswordHasher(4, 1, 4, Duration.ofSeconds(5));
+
+        //when
+        String hashed = hasher.hash("비밀번호");
+
+        //then
+        assertTrue(PasswordHasher.isHashed(hashed));
+        assertTrue(hasher.matches("비밀번호", hashed));
+        assertFalse(hasher.matches("다른비밀번호", hashed));
+        assertFalse(hasher.needsRehash(hashed));
+        assertTrue(new PasswordHasher(5, 1, 4, Duration.ofSeconds(5)).needsRehash(hashed));
+        hasher.close();
+    }
+
+    @Test
+    @DisplayName("일괄 해시 테스트")
+    void hashAllTest() {
+        //given
+        PasswordHasher hasher = new PasswordHasher(4, 4, 4, Duration.ofSeconds(5));
+        List<String> passwords = List.of("비밀번호1", "비밀번호2", "비밀번호3", "비밀번호4", "비밀번호5");
+
+        //when
+        List<String> hashed = hasher.hashAll(passwords);
+
+        //then
+        assertEquals(passwords.size(), hashed.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertTrue(hasher.matches(passwords.get(i), hashed.get(i)));
+        }
+        hasher.close();
+    }
+
+    @Test
+    @DisplayName("평문으로 저장된 비밀번호 검증 테스트")
+    void plainPasswordTest() {
+        //given
+        PasswordHasher hasher = new PasswordHasher(4, 1, 4, Duration.ofSeconds(5));
+
+        //expected
+        assertTrue(hasher.matches("비밀번호", "비밀번호"));
+        assertFalse(hasher.matches("다른비밀번호", "비밀번호"));
+        assertTrue(hasher.needsRehash("비밀번호"));
+        assertEquals(0, hasher.getCompletedCount());
+        hasher.close();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 바로 거절 테스트")
+    void saturationTest() throws Exception {
+        //given
+        PasswordHasher hasher = new PasswordHasher(12, 1, 1, Duration.ofSeconds(30));
+        int requests = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    hasher.hash("비밀번호");
+                    return true;
+                } catch (TooManyRequests e) {
+                    return false;
+                }
+            }));
+        }
+
+        //when
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            succeeded += future.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        //then
+        assertTrue(succeeded >= 1 && succeeded < requests, "succeeded=" + succeeded);
+        assertEquals(requests - succeeded, hasher.getRejectedCount());
+        assertEquals(succeeded, hasher.getCompletedCount());
+        hasher.close();
+    }
+}
@@ -0,0 +1,169 @@
+package com.spring.board.purge;
+
+import com.spring.board.domain.Board;
+import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
+import com.spring.board.repository.*;
+import com.spring.board.request.board.WriteBoardRequest;
+import com.spring.board.request.comment.WriteCommentRequest;
+import com.spring.board.request.reply.WriteReplyRequest;
+import com.spring.board.request.report.ReportRequest;
+import com.spring.board.service.BoardService;
+import com.spring.board.service.CommentService;
+import com.spring.board.service.LikeService;
+import com.spring.board.service.ReplyService;
+import com.spring.board.service.ReportService;
+import com.spring.board.support.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(properties = "board.purge.chunk-size=2")
+class BoardPurgerTest {
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    BoardBodyRepository boardBodyRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ReplyRepository replyRepository;
+
+    @Autowired
+    LikeRepository likeRepository;
+
+    @Autowired
+    ReportRepository reportRepository;
+
+    @Autowired
+    BoardPurger boardPurger;
+
+    @Autowired
+    BoardService boardService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    ReplyService replyService;
+
+    @Autowired
+    LikeService likeService;
+
+    @Autowired
+    ReportService reportService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void clean() {
+        databaseCleaner.clean();
+    }
+
+    @Test
+    @DisplayName("게시글 정리 시 딸린 행을 청크 단위로 모두 지운다")
+    void purgeTest() {
+        //given
+        User author = save("작성자");
+        Board board = write(author, "제목");
+        Board other = write(author, "다른 제목");
+
+        for (int i = 0; i < 5; i++) {
+            User user = save("회원" + i);
+            WriteCommentRequest comment = new WriteCommentRequest();
+            comment.setComment("댓글" + i);
+            commentService.writeComment(board.getId(), comment, LoginUser.from(user));
+            Long commentId = commentRepository.findByBoardId(board.getId()).stream()
+                    .filter(c -> c.getComment().equals(comment.getComment()))
+                    .findFirst()
+                    .get()
+                    .getId();
+
+            WriteReplyRequest reply = new WriteReplyRequest();
+            reply.setReply("답글" + i);
+            replyService.writeReply(LoginUser.from(user), board.getId(), commentId, reply);
+
+            likeService.like(board.getId(), user.getId());
+
+            ReportRequest report = new ReportRequest();
+            report.setReportContent("신고" + i);
+            reportService.reportBoard(board.getId(), user.getId(), report);
+        }
+        WriteCommentRequest comment = new WriteCommentRequest();
+        comment.setComment("남는 댓글");
+        commentService.writeComment(other.getId(), comment, LoginUser.from(author));
+
+        //when
+        long deleted = boardPurger.purge(board.getId(), board.getBody().getId());
+
+        //then
+        assertEquals(21, deleted);
+        assertFalse(boardRepository.existsById(board.getId()));
+        assertEquals(1, boardRepository.count());
+        assertEquals(1, boardBodyRepository.count());
+        assertEquals(0, replyRepository.count());
+        assertEquals(1, commentRepository.count());
+        assertEquals(0, likeRepository.count());
+        assertEquals(0, reportRepository.count());
+    }
+
+    @Test
+    @DisplayName("청크 삭제 이후에 추가된 행은 게시글 행을 지우는 트랜잭션에서 함께 지운다")
+    void sweepTest() {
+        //given
+        User author = save("작성자");
+        Board board = write(author, "제목");
+        boardPurger.deleteContent(board.getId());
+
+        likeService.like(board.getId(), author.getId());
+        WriteCommentRequest comment = new WriteCommentRequest();
+        comment.setComment("늦은 댓글");
+        commentService.writeComment(board.getId(), comment, LoginUser.from(author));
+
+        //when
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> boardPurger.deleteBoardRow(board.getId(), board.getBody().getId()));
+
+        //then
+        assertFalse(boardRepository.existsById(board.getId()));
+        assertEquals(0, commentRepository.count());
+        assertEquals(0, likeRepository.count());
+    }
+
+    private User save(String nickname) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .loginId(nickname)
+                .password("비밀번호")
+                .build());
+    }
+
+    private Board write(User author, String title) {
+        WriteBoardRequest request = new WriteBoardRequest();
+        request.setTitle(title);
+        request.setContent("내용");
+        boardService.write(request, author.getId());
+        return boardRepository.findAll().stream()
+                .filter(b -> b.getTitle().equals(title))
+                .findFirst()
+                .get();
+    }
+}
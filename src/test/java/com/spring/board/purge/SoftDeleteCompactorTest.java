@@ -0,0 +1,179 @@
+package com.spring.board.purge;
+
+import com.spring.board.domain.Board;
+import com.spring.board.domain.User;
+import com.spring.board.exception.board.BoardNotFound;
+import com.spring.board.login.LoginUser;
+import com.spring.board.repository.*;
+import com.spring.board.request.board.WriteBoardRequest;
+import com.spring.board.request.comment.WriteCommentRequest;
+import com.spring.board.request.reply.WriteReplyRequest;
+import com.spring.board.service.BoardService;
+import com.spring.board.service.CommentService;
+import com.spring.board.service.ReplyService;
+import com.spring.board.support.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "board.purge.chunk-size=2")
+class SoftDeleteCompactorTest {
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    BoardBodyRepository boardBodyRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ReplyRepository replyRepository;
+
+    @Autowired
+    LikeRepository likeRepository;
+
+    @Autowired
+    ReportRepository reportRepository;
+
+    @Autowired
+    BoardService boardService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    ReplyService replyService;
+
+    @Autowired
+    SoftDeleteCompactor softDeleteCompactor;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clean() {
+        databaseCleaner.clean();
+    }
+
+    @Test
+    @DisplayName("삭제한 댓글과 답글은 조회와 카운터에서 바로 빠지고 행은 정리 전까지 남는다")
+    void softDeleteCommentTest() {
+        //given
+        User author = save("작성자");
+        User other = save("다른회원");
+        Board board = write(author, "제목");
+        Long commentId = comment(board, other, "댓글");
+        Long remainingId = comment(board, other, "남는 댓글");
+        for (int i = 0; i < 3; i++) {
+            reply(board, commentId, author, "답글" + i);
+        }
+        reply(board, remainingId, author, "남는 답글");
+        Long replyId = replyRepository.findByCommentId(remainingId).get(0).getId();
+
+        //when
+        commentService.deleteComment(board.getId(), commentId, LoginUser.from(other));
+        replyService.deleteReply(LoginUser.from(author), board.getId(), remainingId, replyId);
+
+        //then
+        Board found = boardRepository.findById(board.getId()).get();
+        assertEquals(1, found.getCommentCount());
+        assertEquals(0, found.getReplyCount());
+        assertEquals(1, commentRepository.count());
+        assertEquals(0, replyRepository.count());
+        assertEquals(2, countRows("comment"));
+        assertEquals(4, countRows("reply"));
+    }
+
+    @Test
+    @DisplayName("삭제한 게시글은 바로 조회되지 않고 정리 시 딸린 행과 함께 지워진다")
+    void compactTest() {
+        //given
+        User author = save("작성자");
+        User other = save("다른회원");
+        Board board = write(author, "제목");
+        Board remaining = write(author, "남는 제목");
+        for (int i = 0; i < 3; i++) {
+            Long commentId = comment(board, other, "댓글" + i);
+            reply(board, commentId, author, "답글" + i);
+        }
+        Long deletedCommentId = comment(remaining, other, "지울 댓글");
+        reply(remaining, deletedCommentId, other, "지울 댓글의 답글");
+        comment(remaining, other, "남는 댓글");
+
+        boardService.deleteBoard(board.getId(), LoginUser.from(author));
+        commentService.deleteComment(remaining.getId(), deletedCommentId, LoginUser.from(other));
+
+        assertThrows(BoardNotFound.class, () -> boardService.get(board.getId()));
+        assertEquals(1, userRepository.findById(author.getId()).get().getBoardCount());
+        assertEquals(2, countRows("board"));
+
+        //when
+        long early = softDeleteCompactor.compact(LocalDateTime.now().minusHours(1));
+        long compacted = softDeleteCompactor.compact(LocalDateTime.now().plusSeconds(1));
+
+        //then
+        assertEquals(0, early);
+        assertEquals(9, compacted);
+        assertEquals(1, countRows("board"));
+        assertEquals(1, countRows("board_body"));
+        assertEquals(1, countRows("comment"));
+        assertEquals(0, countRows("reply"));
+        assertEquals(1, boardRepository.findById(remaining.getId()).get().getCommentCount());
+    }
+
+    private long countRows(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    private User save(String nickname) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .loginId(nickname)
+                .password("비밀번호")
+                .build());
+    }
+
+    private Board write(User author, String title) {
+        WriteBoardRequest request = new WriteBoardRequest();
+        request.setTitle(title);
+        request.setContent("내용");
+        boardService.write(request, author.getId());
+        return boardRepository.findAll().stream()
+                .filter(b -> b.getTitle().equals(title))
+                .findFirst()
+                .get();
+    }
+
+    private Long comment(Board board, User user, String content) {
+        WriteCommentRequest request = new WriteCommentRequest();
+        request.setComment(content);
+        commentService.writeComment(board.getId(), request, LoginUser.from(user));
+        return commentRepository.findByBoardId(board.getId()).stream()
+                .filter(c -> c.getComment().equals(content))
+                .findFirst()
+                .get()
+                .getId();
+    }
+
+    private void reply(Board board, Long commentId, User user, String content) {
+        WriteReplyRequest request = new WriteReplyRequest();
+        request.setReply(content);
+        replyService.writeReply(LoginUser.from(user), board.getId(), commentId, request);
+    }
+}
@@ -0,0 +1,218 @@
+package com.spring.board.purge;
+
+import com.spring.board.domain.Board;
+import com.spring.board.domain.User;
+import com.spring.board.domain.UserPurgeJob;
+import com.spring.board.exception.user.UserNotFound;
+import com.spring.board.login.LoginUser;
+import com.spring.board.repository.*;
+import com.spring.board.request.board.WriteBoardRequest;
+import com.spring.board.request.comment.WriteCommentRequest;
+import com.spring.board.request.reply.WriteReplyRequest;
+import com.spring.board.request.report.ReportRequest;
+import com.spring.board.response.user.UserPurgeJobResponse;
+import com.spring.board.service.BoardService;
+import com.spring.board.service.CommentService;
+import com.spring.board.service.LikeService;
+import com.spring.board.service.LoginService;
+import com.spring.board.service.ReplyService;
+import com.spring.board.service.ReportService;
+import com.spring.board.service.UserService;
+import com.spring.board.support.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static com.spring.board.domain.PurgeStatus.DONE;
+import static com.spring.board.domain.PurgeStatus.PENDING;
+import static com.spring.board.domain.PurgeStep.COMMENTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "board.purge.chunk-size=2")
+class UserPurgerTest {
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserPurgeJobRepository userPurgeJobRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    BoardBodyRepository boardBodyRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ReplyRepository replyRepository;
+
+    @Autowired
+    LikeRepository likeRepository;
+
+    @Autowired
+    ReportRepository reportRepository;
+
+    @Autowired
+    UserPurger userPurger;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    LoginService loginService;
+
+    @Autowired
+    BoardService boardService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    ReplyService replyService;
+
+    @Autowired
+    LikeService likeService;
+
+    @Autowired
+    ReportService reportService;
+
+    @BeforeEach
+    void clean() {
+        userPurger.runPending();
+        userPurgeJobRepository.deleteAllInBatch();
+        databaseCleaner.clean();
+    }
+
+    @Test
+    @DisplayName("회원 삭제 시 즉시 삭제 표시 후 작업으로 작성 글과 활동을 모두 지운다")
+    void purgeTest() {
+        //given
+        User author = save("작성자");
+        User other = save("다른회원");
+        for (int i = 0; i < 3; i++) {
+            Board board = write(author, "제목" + i);
+            Long commentId = comment(board, other, "댓글" + i);
+            reply(board, commentId, other, "답글" + i);
+            likeService.like(board.getId(), other.getId());
+        }
+
+        Board otherBoard = write(other, "다른 제목");
+        for (int i = 0; i < 3; i++) {
+            Long commentId = comment(otherBoard, author, "작성자 댓글" + i);
+            reply(otherBoard, commentId, other, "다른회원 답글" + i);
+            reply(otherBoard, commentId, author, "작성자 답글" + i);
+        }
+        Long remainingCommentId = comment(otherBoard, other, "남는 댓글");
+        reply(otherBoard, remainingCommentId, author, "남는 댓글의 작성자 답글");
+        likeService.like(otherBoard.getId(), author.getId());
+        ReportRequest report = new ReportRequest();
+        report.setReportContent("신고");
+        reportService.reportBoard(otherBoard.getId(), author.getId(), report);
+
+        //when
+        UserPurgeJobResponse response = userService.deleteUser(author.getId(), LoginUser.from(author));
+
+        //then
+        assertEquals(PENDING, response.getStatus());
+        assertTrue(userRepository.findById(author.getId()).get().isDeleted());
+        assertThrows(UserNotFound.class, () -> loginService.login("작성자", "비밀번호"));
+        assertEquals(1, boardRepository.count());
+        assertThrows(UserNotFound.class, () -> likeService.like(otherBoard.getId(), author.getId()));
+
+        //when
+        userPurger.runPending();
+
+        //then
+        UserPurgeJob job = userPurgeJobRepository.findById(response.getJobId()).get();
+        assertEquals(DONE, job.getStatus());
+        assertFalse(userRepository.existsById(author.getId()));
+        assertEquals(1, boardRepository.count());
+        assertEquals(1, boardBodyRepository.count());
+        assertEquals(1, commentRepository.count());
+        assertEquals(0, replyRepository.count());
+        assertEquals(0, likeRepository.count());
+        assertEquals(0, reportRepository.count());
+
+        Board remaining = boardRepository.findById(otherBoard.getId()).get();
+        assertEquals(1, remaining.getCommentCount());
+        assertEquals(0, remaining.getReplyCount());
+        assertEquals(0, remaining.getLikeCount());
+        assertEquals(0, remaining.getReportCount());
+    }
+
+    @Test
+    @DisplayName("중단된 작업은 기록된 단계부터 이어서 처리한다")
+    void resumeTest() {
+        //given
+        User author = save("작성자");
+        User other = save("다른회원");
+        Board board = write(other, "제목");
+        for (int i = 0; i < 5; i++) {
+            comment(board, author, "댓글" + i);
+        }
+
+        UserPurgeJob interrupted = new UserPurgeJob(author.getId());
+        interrupted.start();
+        interrupted.moveTo(COMMENTS);
+        Long jobId = userPurgeJobRepository.save(interrupted).getId();
+
+        //when
+        userPurger.runPending();
+
+        //then
+        UserPurgeJob job = userPurgeJobRepository.findById(jobId).get();
+        assertEquals(DONE, job.getStatus());
+        assertEquals(2, job.getAttempts());
+        assertEquals(6, job.getDeletedRows());
+        assertEquals(0, commentRepository.count());
+        assertEquals(0, boardRepository.findById(board.getId()).get().getCommentCount());
+        assertFalse(userRepository.existsById(author.getId()));
+    }
+
+    private User save(String nickname) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .loginId(nickname)
+                .password("비밀번호")
+                .build());
+    }
+
+    private Board write(User author, String title) {
+        WriteBoardRequest request = new WriteBoardRequest();
+        request.setTitle(title);
+        request.setContent("내용");
+        boardService.write(request, author.getId());
+        return boardRepository.findAll().stream()
+                .filter(b -> b.getTitle().equals(title))
+                .findFirst()
+                .get();
+    }
+
+    private Long comment(Board board, User user, String content) {
+        WriteCommentRequest request = new WriteCommentRequest();
+        request.setComment(content);
+        commentService.writeComment(board.getId(), request, LoginUser.from(user));
+        return commentRepository.findByBoardId(board.getId()).stream()
+                .filter(c -> c.getComment().equals(content))
+                .findFirst()
+                .get()
+                .getId();
+    }
+
+    private void reply(Board board, Long commentId, User user, String content) {
+        WriteReplyRequest request = new WriteReplyRequest();
+        request.setReply(content);
+        replyService.writeReply(LoginUser.from(user), board.getId(), commentId, request);
+    }
+}
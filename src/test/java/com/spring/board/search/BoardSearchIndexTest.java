@@ -0,0 +1,87 @@
+package com.spring.board.search;
+
+import com.spring.board.domain.User;
+import com.spring.board.repository.UserRepository;
+import com.spring.board.request.board.WriteBoardRequest;
+import com.spring.board.response.board.BoardsResponse;
+import com.spring.board.service.BoardService;
+import com.spring.board.support.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "board.search.index.enabled=true")
+class BoardSearchIndexTest {
+
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    BoardService boardService;
+
+    @Autowired
+    BoardSearchIndex boardSearchIndex;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void clean() {
+        databaseCleaner.clean();
+        boardSearchIndex.rebuild();
+
+        user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+    }
+
+    @Test
+    @DisplayName("작성한 게시글이 제목과 본문으로 검색된다")
+    void searchWrittenBoardTest() {
+        //given
+        write("스프링 게시판", "내용");
+        write("오늘의 일기", "스프링 게시판을 만들었다");
+        write("다른 글", "관계 없음");
+
+        //when
+        List<BoardsResponse> boards = boardService.findBySearch("스프링 게시판", PageRequest.of(0, 10));
+
+        //then
+        assertTrue(boardSearchIndex.isReady());
+        assertEquals(2, boards.size());
+        assertEquals("스프링 게시판", boards.get(0).getTitle());
+        assertEquals("오늘의 일기", boards.get(1).getTitle());
+    }
+
+    @Test
+    @DisplayName("시작 시 DB 의 게시글로 색인을 다시 만든다")
+    void rebuildTest() {
+        //given
+        write("스프링 게시판", "내용");
+
+        //when
+        boardSearchIndex.rebuild();
+
+        //then
+        assertEquals(1, boardService.findBySearch("게시판", PageRequest.of(0, 10)).size());
+    }
+
+    private void write(String title, String content) {
+        WriteBoardRequest request = new WriteBoardRequest();
+        request.setTitle(title);
+        request.setContent(content);
+        boardService.write(request, user.getId());
+    }
+}
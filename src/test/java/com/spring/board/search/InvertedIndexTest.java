@@ -0,0 +1,131 @@
+package com.spring.board.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTest {
+
+    @Test
+    @DisplayName("한글 bigram 토큰화 테스트")
+    void tokenizeTest() {
+        assertEquals(List.of("게시", "시글", "검색"), NGramTokenizer.tokenize("게시글 검색!"));
+        assertEquals(List.of("ab", "bc", "가"), NGramTokenizer.tokenize("ABC 가"));
+        assertTrue(NGramTokenizer.isSearchable("게시글"));
+        assertFalse(NGramTokenizer.isSearchable("가"));
+    }
+
+    @Test
+    @DisplayName("제목 일치가 본문 일치보다 높은 순위로 검색된다")
+    void rankingTest() {
+        //given
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "오늘의 일기", "스프링 게시판을 만들었다");
+        index.index(2L, "스프링 게시판", "내용");
+        index.index(3L, "다른 글", "전혀 관계 없음");
+
+        //expected
+        assertEquals(List.of(2L, 1L), index.search("스프링 게시판", 0, 10));
+        assertEquals(List.of(1L), index.search("스프링 게시판", 1, 10));
+        assertEquals(List.of(), index.search("없는단어", 0, 10));
+    }
+
+    @Test
+    @DisplayName("수정 및 삭제 시 색인이 갱신된다")
+    void updateAndRemoveTest() {
+        //given
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.index(id, "제목" + id, "내용");
+        }
+
+        //when
+        index.index(2L, "수정된 글", "내용");
+        index.remove(4L);
+
+        //then
+        assertEquals(List.of(5L, 3L, 1L), index.search("제목", 0, 10));
+        assertEquals(List.of(2L), index.search("수정", 0, 10));
+        assertEquals(4, index.documentCount());
+    }
+
+    @Test
+    @DisplayName("posting list 는 순서와 무관하게 정렬된 상태로 인코딩된다")
+    void postingListTest() {
+        //given
+        PostingList list = new PostingList();
+        list.add(10L, 1);
+        list.add(300L, 2);
+        list.add(5L, 3);
+        list.add(1L << 40, 4);
+
+        //when
+        list.remove(300L);
+
+        //then
+        StringBuilder decoded = new StringBuilder();
+        list.forEach((docId, weight) -> decoded.append(docId).append(':').append(weight).append(' '));
+        assertEquals("5:3 10:1 " + (1L << 40) + ":4 ", decoded.toString());
+    }
+
+    @Test
+    @DisplayName("posting list 수정과 삭제는 다시 인코딩하지 않고 모았다가 합친다")
+    void postingListDeltaTest() {
+        //given
+        PostingList list = new PostingList();
+        for (long id = 1; id <= 1_000; id++) {
+            list.add(id, 1);
+        }
+        int encoded = list.byteSize();
+
+        //when
+        for (long id = 2; id <= 40; id += 2) {
+            list.remove(id);
+            list.add(id, 2);
+        }
+        list.remove(999L);
+        int pending = list.byteSize();
+        long[] ids = new long[list.size()];
+        long[] scores = new long[list.size()];
+        int count = list.decodeInto(ids, scores);
+        list.compact();
+
+        //then
+        assertEquals(encoded, pending);
+        assertEquals(999, count);
+        assertEquals(999, list.size());
+        assertEquals(2L, ids[1]);
+        assertEquals(2L, scores[1]);
+        assertEquals(1_000L, ids[998]);
+        StringBuilder compacted = new StringBuilder();
+        list.forEach((docId, weight) -> compacted.append(docId).append(':').append(weight).append(' '));
+        assertTrue(compacted.toString().startsWith("1:1 2:2 3:1 4:2 "));
+        assertFalse(compacted.toString().contains(" 999:"));
+    }
+
+    @Test
+    @DisplayName("posting list 에 없는 문서를 삭제해도 크기가 줄지 않는다")
+    void postingListRemoveAbsentTest() {
+        //given
+        PostingList list = new PostingList();
+        list.add(1L, 1);
+        list.add(3L, 1);
+        list.add(5L, 1);
+
+        //when
+        boolean absent = list.remove(2L);
+        boolean present = list.remove(3L);
+        boolean again = list.remove(3L);
+
+        //then
+        assertFalse(absent);
+        assertTrue(present);
+        assertFalse(again);
+        assertEquals(2, list.size());
+    }
+}
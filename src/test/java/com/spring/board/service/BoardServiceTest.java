@@ -1,16 +1,25 @@
 package com.spring.board.service;
 
+import com.spring.board.cache.BoardResponseCache;
 import com.spring.board.domain.Board;
 import com.spring.board.domain.User;
+import com.spring.board.exception.EditConflict;
 import com.spring.board.exception.InvalidRequest;
 import com.spring.board.exception.board.BoardNotFound;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.UserRepository;
 import com.spring.board.request.board.EditBoardRequest;
 import com.spring.board.request.board.WriteBoardRequest;
+import com.spring.board.response.CursorResponse;
+import com.spring.board.response.board.BoardResponse;
 import com.spring.board.response.board.BoardsResponse;
 import com.spring.board.response.board.EditBoardResponse;
 import com.spring.board.response.board.WriteBoardResponse;
+import com.spring.board.support.DatabaseCleaner;
+import com.spring.board.support.SqlCounter;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,19 +29,31 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.spring.board.domain.Grade.RED;
 import static com.spring.board.domain.Grade.SILVER;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.data.domain.Sort.Direction.DESC;
 
 @SpringBootTest
 class BoardServiceTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     BoardService boardService;
 
@@ -42,10 +63,15 @@ class BoardServiceTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    BoardResponseCache boardResponseCache;
+
+    @Autowired
+    EntityManager entityManager;
+
     @BeforeEach
     void clean() {
-        boardRepository.deleteAll();
-        userRepository.deleteAll();
+        databaseCleaner.clean();
     }
 
     @Test
@@ -99,6 +125,34 @@ class BoardServiceTest {
         assertEquals(response.getGrade(), RED);
     }
 
+    @Test
+    @Transactional
+    @DisplayName("게시글 작성 시 DB 에 반영된 게시글 수로 등급을 올린다")
+    void checkUserGradeFromStoredCount() {
+        //given
+        User user = User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .grade(SILVER)
+                .build();
+
+        userRepository.save(user);
+        userRepository.addBoardCount(user.getId(), 9);
+
+        WriteBoardRequest request = new WriteBoardRequest();
+        request.setTitle("제목");
+        request.setContent("내용");
+
+        //when
+        WriteBoardResponse response = boardService.write(request, user.getId());
+
+        //then
+        entityManager.clear();
+        assertEquals(RED, response.getGrade());
+        assertEquals(RED, userRepository.findById(user.getId()).get().getGrade());
+    }
+
     @Test
     @DisplayName("게시글 수정 테스트")
     void editBoardTest() {
@@ -124,7 +178,7 @@ class BoardServiceTest {
         request.setContent("내용수정");
 
         //when
-        EditBoardResponse response = boardService.editBoard(saveBoard.getId(), request, user);
+        EditBoardResponse response = boardService.editBoard(saveBoard.getId(), request, LoginUser.from(user));
 
         //then
         assertEquals(response.getTitle(), "제목수정");
@@ -143,7 +197,7 @@ class BoardServiceTest {
 
         User user2 = User.builder()
                 .nickname("닉네임")
-                .loginId("아이디")
+                .loginId("다른아이디")
                 .password("비밀번호")
                 .build();
 
@@ -163,7 +217,7 @@ class BoardServiceTest {
         request.setContent("내용수정");
 
         //expected
-        assertThatThrownBy(() -> boardService.editBoard(saveBoard.getId(), request, user2))
+        assertThatThrownBy(() -> boardService.editBoard(saveBoard.getId(), request, LoginUser.from(user2)))
                 .isInstanceOf(InvalidRequest.class);
     }
 
@@ -184,10 +238,154 @@ class BoardServiceTest {
         request.setContent("내용수정");
 
         //expected
-        assertThatThrownBy(() -> boardService.editBoard(100L, request, user))
+        assertThatThrownBy(() -> boardService.editBoard(100L, request, LoginUser.from(user)))
                 .isInstanceOf(BoardNotFound.class);
     }
 
+    @Test
+    @DisplayName("조회 이후 변경된 게시글 수정 시 충돌 테스트")
+    void editStaleBoardTest() {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+
+        Board board = boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용")
+                .user(user)
+                .build());
+
+        EditBoardRequest first = new EditBoardRequest();
+        first.setTitle("제목수정1");
+        first.setContent("내용수정1");
+        first.setVersion(board.getVersion());
+        boardService.editBoard(board.getId(), first, LoginUser.from(user));
+
+        EditBoardRequest stale = new EditBoardRequest();
+        stale.setTitle("제목수정2");
+        stale.setContent("내용수정2");
+        stale.setVersion(board.getVersion());
+
+        //expected
+        assertThatThrownBy(() -> boardService.editBoard(board.getId(), stale, LoginUser.from(user)))
+                .isInstanceOf(EditConflict.class);
+        assertEquals("제목수정1", boardService.get(board.getId()).getTitle());
+    }
+
+    @Test
+    @DisplayName("본문만 수정해도 버전이 증가한다")
+    void editContentOnlyBumpsVersionTest() {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+
+        String prefix = "가".repeat(Board.PREVIEW_LENGTH);
+        Board board = boardRepository.save(Board.builder()
+                .title("제목")
+                .content(prefix + "내용")
+                .user(user)
+                .build());
+
+        EditBoardRequest request = new EditBoardRequest();
+        request.setTitle("제목");
+        request.setContent(prefix + "내용수정");
+        request.setVersion(board.getVersion());
+
+        //when
+        EditBoardResponse response = boardService.editBoard(board.getId(), request, LoginUser.from(user));
+
+        //then
+        assertEquals(board.getVersion() + 1, response.getVersion());
+        assertEquals(response.getVersion(), boardService.get(board.getId()).getVersion());
+    }
+
+    @Test
+    @DisplayName("같은 버전을 기준으로 한 동시 수정은 하나만 반영되고 나머지는 충돌한다")
+    void concurrentEditWithVersionTest() throws InterruptedException {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+
+        Board board = boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용")
+                .user(user)
+                .build());
+
+        int threadCount = 8;
+        ConcurrentLinkedQueue<String> applied = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        //when
+        runConcurrently(threadCount, i -> {
+            EditBoardRequest request = new EditBoardRequest();
+            request.setTitle("제목수정" + i);
+            request.setContent("내용수정" + i);
+            request.setVersion(board.getVersion());
+            try {
+                applied.add(boardService.editBoard(board.getId(), request, LoginUser.from(user)).getTitle());
+            } catch (EditConflict e) {
+                conflicts.incrementAndGet();
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+        });
+
+        //then
+        BoardResponse response = boardService.get(board.getId());
+        assertTrue(failures.isEmpty(), () -> "충돌 외 예외 발생: " + failures);
+        assertEquals(1, applied.size());
+        assertEquals(threadCount - 1, conflicts.get());
+        assertEquals(applied.peek(), response.getTitle());
+        assertEquals(board.getVersion() + 1, response.getVersion());
+    }
+
+    @Test
+    @DisplayName("버전 없는 동시 수정은 재시도로 모두 순서대로 반영된다")
+    void concurrentEditWithoutVersionTest() throws InterruptedException {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+
+        Board board = boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용")
+                .user(user)
+                .build());
+
+        int threadCount = 3;
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        //when
+        runConcurrently(threadCount, i -> {
+            EditBoardRequest request = new EditBoardRequest();
+            request.setTitle("제목수정" + i);
+            request.setContent("내용수정" + i);
+            try {
+                boardService.editBoard(board.getId(), request, LoginUser.from(user));
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+        });
+
+        //then
+        assertTrue(failures.isEmpty(), () -> "수정 실패: " + failures);
+        assertEquals(board.getVersion() + threadCount, boardService.get(board.getId()).getVersion());
+    }
+
     @Test
     @DisplayName("게시글 삭제 테스트")
     void deleteBoardTest() {
@@ -209,12 +407,88 @@ class BoardServiceTest {
         Board saveBoard = boardRepository.save(board);
 
         //when
-        boardService.deleteBoard(saveBoard.getId(), user);
+        boardService.deleteBoard(saveBoard.getId(), LoginUser.from(user));
 
         //then
         assertEquals(0, boardRepository.count());
     }
 
+    @Test
+    @DisplayName("게시글 작성, 삭제 시 회원 게시글 수 반영 테스트")
+    void boardCountTest() {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .grade(SILVER)
+                .build());
+
+        WriteBoardRequest request = new WriteBoardRequest();
+        request.setTitle("제목");
+        request.setContent("내용");
+        for (int i = 0; i < 3; i++) {
+            boardService.write(request, user.getId());
+        }
+        Long boardId = boardRepository.findAll().get(0).getId();
+
+        //when
+        boardService.deleteBoard(boardId, LoginUser.from(user));
+
+        //then
+        User findUser = userRepository.findById(user.getId()).get();
+        assertEquals(2, findUser.getBoardCount());
+        assertFalse(Hibernate.isInitialized(findUser.getBoards()));
+    }
+
+    @Test
+    @DisplayName("동시 게시글 삭제 시 회원 게시글 수는 한 번만 줄어든다")
+    void concurrentDeleteBoardTest() throws InterruptedException {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .grade(SILVER)
+                .build());
+
+        WriteBoardRequest request = new WriteBoardRequest();
+        request.setTitle("제목");
+        request.setContent("내용");
+        boardService.write(request, user.getId());
+        Long boardId = boardRepository.findAll().get(0).getId();
+
+        AtomicInteger deleted = new AtomicInteger();
+        AtomicInteger notFound = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                    boardService.deleteBoard(boardId, LoginUser.from(user));
+                    deleted.incrementAndGet();
+                } catch (BoardNotFound e) {
+                    notFound.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+
+        //when
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        //then
+        assertEquals(1, deleted.get());
+        assertEquals(threads.length - 1, notFound.get());
+        assertEquals(0, userRepository.findById(user.getId()).get().getBoardCount());
+    }
+
     @Test
     @DisplayName("게시글 삭제 실패 테스트")
     void deleteBoardFailTest() {
@@ -227,7 +501,7 @@ class BoardServiceTest {
 
         User user2 = User.builder()
                 .nickname("닉네임")
-                .loginId("아이디")
+                .loginId("다른아이디")
                 .password("비밀번호")
                 .build();
 
@@ -243,7 +517,7 @@ class BoardServiceTest {
         Board saveBoard = boardRepository.save(board);
 
         //expected
-        assertThatThrownBy(() -> boardService.deleteBoard(saveBoard.getId(), user2))
+        assertThatThrownBy(() -> boardService.deleteBoard(saveBoard.getId(), LoginUser.from(user2)))
                 .isInstanceOf(InvalidRequest.class);
     }
 
@@ -260,7 +534,7 @@ class BoardServiceTest {
         userRepository.save(user);
 
         //expected
-        assertThatThrownBy(() -> boardService.deleteBoard(100L, user))
+        assertThatThrownBy(() -> boardService.deleteBoard(100L, LoginUser.from(user)))
                 .isInstanceOf(BoardNotFound.class);
     }
 
@@ -293,4 +567,198 @@ class BoardServiceTest {
         assertEquals(findBoards.get(0).getTitle(), "제목19");
         assertEquals(findBoards.get(9).getTitle(), "제목10");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("게시글 커서 기반 조회")
+    void getBoardsByCursorTest() {
+        //given
+        User user = User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build();
+
+        userRepository.save(user);
+
+        List<Board> boards = IntStream.range(0, 20).mapToObj(i -> Board.builder()
+                        .title("제목" + i)
+                        .content("내용" + i)
+                        .user(user)
+                        .build())
+                .collect(Collectors.toList());
+
+        boardRepository.saveAll(boards);
+
+        //when
+        CursorResponse<BoardsResponse> first = boardService.getBoards("", 15);
+        CursorResponse<BoardsResponse> second = boardService.getBoards(first.getNextCursor(), 15);
+
+        //then
+        assertEquals(15, first.getContents().size());
+        assertEquals("제목19", first.getContents().get(0).getTitle());
+        assertEquals(5, second.getContents().size());
+        assertEquals("제목4", second.getContents().get(0).getTitle());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 게시글 조회")
+    void getBoardsByInvalidCursorTest() {
+        //expected
+        assertThatThrownBy(() -> boardService.getBoards("잘못된커서", 10))
+                .isInstanceOf(InvalidRequest.class);
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회 캐시 및 수정 시 무효화 테스트")
+    void getBoardCacheTest() {
+        //given
+        User user = User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build();
+
+        userRepository.save(user);
+
+        Board board = boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용")
+                .user(user)
+                .build());
+
+        EditBoardRequest request = new EditBoardRequest();
+        request.setTitle("제목수정");
+        request.setContent("내용수정");
+
+        //when
+        boardService.get(board.getId());
+        long hitCount = boardResponseCache.getHitCount();
+        BoardResponse cached = boardService.get(board.getId());
+        boardService.editBoard(board.getId(), request, LoginUser.from(user));
+        BoardResponse edited = boardService.get(board.getId());
+
+        //then
+        assertEquals(hitCount + 1, boardResponseCache.getHitCount());
+        assertEquals("제목", cached.getTitle());
+        assertEquals("제목수정", edited.getTitle());
+        assertEquals("내용수정", edited.getContent());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 작성자 정보는 users 조인 없이 캐시에서 채운다")
+    void getBoardsUserSummaryTest() {
+        //given
+        List<User> users = userRepository.saveAll(IntStream.range(0, 3)
+                .mapToObj(i -> User.builder()
+                        .nickname("닉네임" + i)
+                        .loginId("아이디" + i)
+                        .password("비밀번호")
+                        .build())
+                .collect(Collectors.toList()));
+        users.forEach(u -> boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용")
+                .user(u)
+                .build()));
+
+        //when
+        int miss = SqlCounter.count(() -> boardService.getBoards(PageRequest.of(0, 10, DESC, "id")));
+        int hit = SqlCounter.count(() -> boardService.getBoards(PageRequest.of(0, 10, DESC, "id")));
+        List<BoardsResponse> boards = boardService.getBoards(PageRequest.of(0, 10, DESC, "id"));
+
+        //then
+        assertEquals(2, miss);
+        assertEquals(1, hit);
+        assertEquals(List.of("닉네임2", "닉네임1", "닉네임0"), boards.stream()
+                .map(BoardsResponse::getUserNickname)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("게시글 목록 조회 시 본문 미리보기만 조회하고 엔티티를 영속화하지 않는다")
+    void getBoardsProjectionTest() {
+        //given
+        User user = User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build();
+
+        userRepository.save(user);
+
+        boardRepository.save(Board.builder()
+                .title("제목")
+                .content("내용".repeat(1_000))
+                .user(user)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        List<BoardsResponse> findBoards = boardService.getBoards(PageRequest.of(0, 10, DESC, "id"));
+
+        //then
+        assertEquals(Board.PREVIEW_LENGTH, findBoards.get(0).getContent().length());
+        assertEquals("닉네임", findBoards.get(0).getUserNickname());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("긴 본문은 압축 저장하고 상세 조회 시에만 복원한다")
+    void compressedBodyTest() {
+        //given
+        User user = User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build();
+
+        userRepository.save(user);
+
+        String content = "압축되는 긴 본문 ".repeat(1_000);
+        Board board = boardRepository.save(Board.builder()
+                .title("제목")
+                .content(content)
+                .user(user)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        Board findBoard = boardRepository.findById(board.getId()).get();
+        boolean bodyLoaded = Hibernate.isInitialized(findBoard.getBody());
+        BoardResponse response = boardService.get(board.getId());
+
+        //then
+        assertFalse(bodyLoaded);
+        assertTrue(findBoard.getBody().isCompressed());
+        assertTrue(findBoard.getBody().getData().length < content.getBytes(UTF_8).length);
+        assertEquals(content, response.getContent());
+    }
+
+    private void runConcurrently(int threadCount, IntConsumer task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                    task.accept(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
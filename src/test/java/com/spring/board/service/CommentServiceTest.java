@@ -2,14 +2,22 @@ package com.spring.board.service;
 
 import com.spring.board.domain.Board;
 import com.spring.board.domain.Comment;
+import com.spring.board.domain.Reply;
 import com.spring.board.domain.User;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.CommentRepository;
+import com.spring.board.repository.ReplyRepository;
 import com.spring.board.repository.UserRepository;
 import com.spring.board.request.comment.EditCommentRequest;
 import com.spring.board.request.comment.WriteCommentRequest;
+import com.spring.board.response.CursorResponse;
+import com.spring.board.response.board.BoardResponse;
+import com.spring.board.response.comment.CommentDto;
 import com.spring.board.response.comment.EditCommentResponse;
 import com.spring.board.response.comment.SaveCommentResponse;
+import com.spring.board.support.DatabaseCleaner;
+import com.spring.board.support.SqlCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,13 +25,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @SpringBootTest
 class CommentServiceTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     CommentService commentService;
 
+    @Autowired
+    BoardService boardService;
+
     @Autowired
     UserRepository userRepository;
 
@@ -33,14 +49,15 @@ class CommentServiceTest {
     @Autowired
     CommentRepository commentRepository;
 
+    @Autowired
+    ReplyRepository replyRepository;
+
     private User user;
     private Board board;
 
     @BeforeEach
     void clean() {
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
-        commentRepository.deleteAll();
+        databaseCleaner.clean();
 
         user = User.builder()
                 .nickname("닉네임")
@@ -67,7 +84,7 @@ class CommentServiceTest {
 
         //when
         SaveCommentResponse response =
-                commentService.writeComment(savedBoard.getId(), request, savedUser);
+                commentService.writeComment(savedBoard.getId(), request, LoginUser.from(savedUser));
 
         //then
         assertEquals(response.getComment(), "댓글");
@@ -94,7 +111,7 @@ class CommentServiceTest {
 
         //when
         EditCommentResponse response =
-                commentService.editComment(savedBoard.getId(), comment.getId(), savedUser, request);
+                commentService.editComment(savedBoard.getId(), comment.getId(), LoginUser.from(savedUser), request);
 
         //then
         assertEquals(response.getComment(), "댓글수정");
@@ -116,9 +133,141 @@ class CommentServiceTest {
         commentRepository.save(comment);
 
         //when
-        commentService.deleteComment(savedBoard.getId(), comment.getId(), savedUser);
+        commentService.deleteComment(savedBoard.getId(), comment.getId(), LoginUser.from(savedUser));
 
         //then
         assertEquals(commentRepository.count(), 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("댓글 수정, 삭제 시 검증 조회는 한 번만 실행된다")
+    void mutationSqlCountTest() {
+        //given
+        User savedUser = userRepository.save(user);
+        Board savedBoard = boardRepository.save(board);
+
+        Comment comment = commentRepository.save(Comment.builder()
+                .comment("댓글")
+                .user(savedUser)
+                .board(savedBoard)
+                .build());
+
+        EditCommentRequest request = new EditCommentRequest();
+        request.setComment("댓글수정");
+
+        //when
+        int edit = SqlCounter.count(() ->
+                commentService.editComment(savedBoard.getId(), comment.getId(), LoginUser.from(savedUser), request));
+        int delete = SqlCounter.count(() ->
+                commentService.deleteComment(savedBoard.getId(), comment.getId(), LoginUser.from(savedUser)));
+
+        //then
+        assertEquals(3, edit);
+        assertEquals(4, delete);
+    }
+
+    @Test
+    @DisplayName("댓글 작성 후 게시글 단건 조회 캐시 무효화 테스트")
+    void writeCommentEvictsBoardCacheTest() {
+        //given
+        User savedUser = userRepository.save(user);
+        Board savedBoard = boardRepository.save(board);
+        boardService.get(savedBoard.getId());
+
+        WriteCommentRequest request = new WriteCommentRequest();
+        request.setComment("댓글");
+
+        //when
+        commentService.writeComment(savedBoard.getId(), request, LoginUser.from(savedUser));
+
+        //then
+        BoardResponse response = boardService.get(savedBoard.getId());
+        assertEquals(1, response.getComments().size());
+        assertEquals("댓글", response.getComments().get(0).getComment());
+    }
+
+    @Test
+    @DisplayName("댓글 작성 및 삭제 시 게시글 댓글 수 반영 테스트")
+    void commentCountTest() {
+        //given
+        User savedUser = userRepository.save(user);
+        Board savedBoard = boardRepository.save(board);
+
+        WriteCommentRequest request = new WriteCommentRequest();
+        request.setComment("댓글");
+
+        //when
+        commentService.writeComment(savedBoard.getId(), request, LoginUser.from(savedUser));
+        commentService.writeComment(savedBoard.getId(), request, LoginUser.from(savedUser));
+        Comment comment = commentRepository.findByBoardId(savedBoard.getId()).get(0);
+        commentService.deleteComment(savedBoard.getId(), comment.getId(), LoginUser.from(savedUser));
+
+        //then
+        assertEquals(1, boardRepository.findById(savedBoard.getId()).get().getCommentCount());
+    }
+
+    @Test
+    @DisplayName("댓글 커서 페이징 조회 테스트")
+    void getCommentsTest() {
+        //given
+        userRepository.save(user);
+        boardRepository.save(board);
+
+        for (int i = 1; i <= 5; i++) {
+            Comment comment = commentRepository.save(Comment.builder()
+                    .comment("댓글" + i)
+                    .board(board)
+                    .user(user)
+                    .build());
+
+            for (int j = 1; j <= 4; j++) {
+                replyRepository.save(Reply.builder()
+                        .reply("대댓글" + i + "-" + j)
+                        .user(user)
+                        .board(board)
+                        .comment(comment)
+                        .build());
+            }
+        }
+
+        //when
+        CursorResponse<CommentDto> first = commentService.getComments(board.getId(), null, 3, 2);
+        CursorResponse<CommentDto> second = commentService.getComments(board.getId(), first.getNextCursor(), 3, 2);
+
+        //then
+        assertEquals(3, first.getContents().size());
+        assertEquals("댓글1", first.getContents().get(0).getComment());
+        assertEquals(2, first.getContents().get(0).getReplies().size());
+        assertEquals("대댓글1-1", first.getContents().get(0).getReplies().get(0).getReply());
+        assertNotNull(first.getContents().get(0).getNextReplyCursor());
+        assertNotNull(first.getNextCursor());
+
+        assertEquals(2, second.getContents().size());
+        assertEquals("댓글4", second.getContents().get(0).getComment());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회 시 첫 댓글 페이지만 포함 테스트")
+    void getBoardWithCommentPageTest() {
+        //given
+        userRepository.save(user);
+        boardRepository.save(board);
+
+        for (int i = 1; i <= 3; i++) {
+            commentRepository.save(Comment.builder()
+                    .comment("댓글" + i)
+                    .board(board)
+                    .user(user)
+                    .build());
+        }
+
+        //when
+        BoardResponse response = boardService.get(board.getId(), 2);
+
+        //then
+        assertEquals("제목", response.getTitle());
+        assertEquals(2, response.getComments().size());
+        assertNotNull(response.getNextCommentCursor());
+    }
+}
@@ -2,21 +2,29 @@ package com.spring.board.service;
 
 import com.spring.board.domain.Board;
 import com.spring.board.domain.User;
+import com.spring.board.exception.like.DuplicationLikeException;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.LikeRepository;
 import com.spring.board.repository.UserRepository;
 import com.spring.board.response.like.LikeResponse;
+import com.spring.board.support.DatabaseCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest
 class LikeServiceTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     UserRepository userRepository;
 
@@ -34,9 +42,7 @@ class LikeServiceTest {
 
     @BeforeEach
     void clean() {
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
-        likeRepository.deleteAll();
+        databaseCleaner.clean();
 
         user = User.builder()
                 .nickname("닉네임")
@@ -81,4 +87,40 @@ class LikeServiceTest {
         //expected
         assertEquals(likeRepository.count(), 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("동시 좋아요 중복 없음 테스트")
+    void concurrentLikeTest() throws InterruptedException {
+        //given
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                    likeService.like(board.getId(), user.getId());
+                    success.incrementAndGet();
+                } catch (DuplicationLikeException e) {
+                    duplicated.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+
+        //when
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        //then
+        assertEquals(1, success.get());
+        assertEquals(threads.length - 1, duplicated.get());
+        assertEquals(1, likeRepository.count());
+        assertEquals(1, boardRepository.findById(board.getId()).get().getLikeCount());
+    }
+}
@@ -2,7 +2,9 @@ package com.spring.board.service;
 
 import com.spring.board.domain.User;
 import com.spring.board.exception.user.UserNotFound;
+import com.spring.board.login.PasswordHasher;
 import com.spring.board.repository.UserRepository;
+import com.spring.board.support.DatabaseCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,19 +13,26 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 class LoginServiceTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     UserRepository userRepository;
 
     @Autowired
     LoginService loginService;
 
+    @Autowired
+    PasswordHasher passwordHasher;
+
     @BeforeEach
     void clean() {
-        userRepository.deleteAll();
+        databaseCleaner.clean();
     }
 
     @Test
@@ -47,6 +56,42 @@ class LoginServiceTest {
         assertEquals("비밀번호", loginUser.getPassword());
     }
 
+    @Test
+    @DisplayName("평문 비밀번호 로그인 시 해시로 전환 테스트")
+    void migratePlainPasswordTest() {
+        //given
+        User user = userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password("비밀번호")
+                .build());
+
+        //when
+        loginService.login("아이디", "비밀번호");
+
+        //then
+        String stored = userRepository.findById(user.getId()).get().getPassword();
+        assertTrue(PasswordHasher.isHashed(stored));
+        assertTrue(passwordHasher.matches("비밀번호", stored));
+        assertEquals("아이디", loginService.login("아이디", "비밀번호").getLoginId());
+    }
+
+    @Test
+    @DisplayName("해시된 비밀번호 불일치 로그인 실패 테스트")
+    void wrongHashedPasswordTest() {
+        //given
+        userRepository.save(User.builder()
+                .nickname("닉네임")
+                .loginId("아이디")
+                .password(passwordHasher.hash("비밀번호"))
+                .build());
+
+        //expected
+        assertThrows(UserNotFound.class, () -> {
+            loginService.login("아이디", "다른비밀번호");
+        });
+    }
+
     @Test
     @DisplayName("로그인 실패 테스트")
     void failLoginTest() {
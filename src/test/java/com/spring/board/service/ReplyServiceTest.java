@@ -4,16 +4,22 @@ import com.spring.board.domain.Board;
 import com.spring.board.domain.Comment;
 import com.spring.board.domain.Reply;
 import com.spring.board.domain.User;
+import com.spring.board.exception.InvalidRequest;
 import com.spring.board.exception.board.BoardNotFound;
 import com.spring.board.exception.comment.CommentNotFound;
+import com.spring.board.login.LoginUser;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.CommentRepository;
 import com.spring.board.repository.ReplyRepository;
 import com.spring.board.repository.UserRepository;
 import com.spring.board.request.reply.EditReplyRequest;
 import com.spring.board.request.reply.WriteReplyRequest;
+import com.spring.board.response.CursorResponse;
 import com.spring.board.response.reply.EditReplyResponse;
+import com.spring.board.response.reply.ReplyDto;
 import com.spring.board.response.reply.WriteReplyResponse;
+import com.spring.board.support.DatabaseCleaner;
+import com.spring.board.support.SqlCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,11 +27,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
 class ReplyServiceTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     UserRepository userRepository;
 
@@ -47,10 +57,7 @@ class ReplyServiceTest {
 
     @BeforeEach
     void clean() {
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
-        commentRepository.deleteAll();
-        replyRepository.deleteAll();
+        databaseCleaner.clean();
 
         user = User.builder()
                 .nickname("닉네임")
@@ -85,7 +92,7 @@ class ReplyServiceTest {
         request.setReply("대댓글");
 
         //when
-        WriteReplyResponse replyResponse = replyService.writeReply(user, board.getId(), comment.getId(), request);
+        WriteReplyResponse replyResponse = replyService.writeReply(LoginUser.from(user), board.getId(), comment.getId(), request);
 
         //then
         assertEquals(replyResponse.getNickname(), "닉네임");
@@ -101,11 +108,11 @@ class ReplyServiceTest {
 
         //when
         assertThrows(BoardNotFound.class, () -> {
-            replyService.writeReply(user, 100L, comment.getId(), request);
+            replyService.writeReply(LoginUser.from(user), 100L, comment.getId(), request);
         });
 
         assertThrows(CommentNotFound.class, () -> {
-            replyService.writeReply(user, board.getId(), 100L, request);
+            replyService.writeReply(LoginUser.from(user), board.getId(), 100L, request);
         });
     }
 
@@ -127,7 +134,7 @@ class ReplyServiceTest {
 
         //when
         EditReplyResponse replyResponse =
-                replyService.editReply(user, board.getId(), comment.getId(), reply.getId(), request);
+                replyService.editReply(LoginUser.from(user), board.getId(), comment.getId(), reply.getId(), request);
 
         //then
         assertEquals(replyResponse.getNickname(), "닉네임");
@@ -152,11 +159,11 @@ class ReplyServiceTest {
 
         //expected
         assertThrows(BoardNotFound.class, () -> {
-            replyService.editReply(user, 100L, comment.getId(), reply.getId(), request);
+            replyService.editReply(LoginUser.from(user), 100L, comment.getId(), reply.getId(), request);
         });
 
         assertThrows(CommentNotFound.class, () -> {
-            replyService.editReply(user, board.getId(), 100L, reply.getId(), request);
+            replyService.editReply(LoginUser.from(user), board.getId(), 100L, reply.getId(), request);
         });
     }
 
@@ -174,7 +181,7 @@ class ReplyServiceTest {
         replyRepository.save(reply);
 
         //when
-        replyService.deleteReply(user, board.getId(), comment.getId(), reply.getId());
+        replyService.deleteReply(LoginUser.from(user), board.getId(), comment.getId(), reply.getId());
 
         //then
         assertEquals(replyRepository.count(), 0);
@@ -195,11 +202,95 @@ class ReplyServiceTest {
 
         //expected
         assertThrows(BoardNotFound.class, () -> {
-            replyService.deleteReply(user, 100L, comment.getId(), reply.getId());
+            replyService.deleteReply(LoginUser.from(user), 100L, comment.getId(), reply.getId());
         });
 
         assertThrows(CommentNotFound.class, () -> {
-            replyService.deleteReply(user, board.getId(), 100L, reply.getId());
+            replyService.deleteReply(LoginUser.from(user), board.getId(), 100L, reply.getId());
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("다른 댓글에 달린 대댓글이나 다른 회원의 대댓글 수정 실패 테스트")
+    void editReplyOwnershipTest() {
+        //given
+        User other = userRepository.save(User.builder()
+                .nickname("닉네임2")
+                .loginId("아이디2")
+                .password("패스워드")
+                .build());
+
+        Comment otherComment = commentRepository.save(Comment.builder()
+                .user(user)
+                .board(board)
+                .comment("댓글2")
+                .build());
+
+        Reply reply = replyRepository.save(Reply.builder()
+                .user(user)
+                .board(board)
+                .comment(comment)
+                .reply("대댓글")
+                .build());
+
+        EditReplyRequest request = new EditReplyRequest();
+        request.setReply("대댓글수정");
+
+        //expected
+        assertThrows(CommentNotFound.class, () ->
+                replyService.editReply(LoginUser.from(user), board.getId(), otherComment.getId(), reply.getId(), request));
+
+        assertThrows(InvalidRequest.class, () ->
+                replyService.editReply(LoginUser.from(other), board.getId(), comment.getId(), reply.getId(), request));
+    }
+
+    @Test
+    @DisplayName("대댓글 수정, 삭제 시 검증 조회는 한 번만 실행된다")
+    void mutationSqlCountTest() {
+        //given
+        Reply reply = replyRepository.save(Reply.builder()
+                .user(user)
+                .board(board)
+                .comment(comment)
+                .reply("대댓글")
+                .build());
+
+        EditReplyRequest request = new EditReplyRequest();
+        request.setReply("대댓글수정");
+
+        //when
+        int edit = SqlCounter.count(() ->
+                replyService.editReply(LoginUser.from(user), board.getId(), comment.getId(), reply.getId(), request));
+        int delete = SqlCounter.count(() ->
+                replyService.deleteReply(LoginUser.from(user), board.getId(), comment.getId(), reply.getId()));
+
+        //then
+        assertEquals(3, edit);
+        assertEquals(3, delete);
+    }
+
+    @Test
+    @DisplayName("대댓글 커서 페이징 조회 테스트")
+    void getRepliesTest() {
+        //given
+        for (int i = 1; i <= 5; i++) {
+            replyRepository.save(Reply.builder()
+                    .reply("대댓글" + i)
+                    .user(user)
+                    .board(board)
+                    .comment(comment)
+                    .build());
+        }
+
+        //when
+        CursorResponse<ReplyDto> first = replyService.getReplies(board.getId(), comment.getId(), null, 3);
+        CursorResponse<ReplyDto> second = replyService.getReplies(board.getId(), comment.getId(), first.getNextCursor(), 3);
+
+        //then
+        assertEquals(3, first.getContents().size());
+        assertEquals("대댓글1", first.getContents().get(0).getReply());
+        assertEquals(2, second.getContents().size());
+        assertEquals("대댓글4", second.getContents().get(0).getReply());
+        assertNull(second.getNextCursor());
+    }
+}
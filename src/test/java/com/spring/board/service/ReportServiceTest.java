@@ -10,6 +10,7 @@ import com.spring.board.repository.UserRepository;
 import com.spring.board.request.report.ReportRequest;
 import com.spring.board.response.report.ReportBoardsResponse;
 import com.spring.board.response.report.ReportResponse;
+import com.spring.board.support.DatabaseCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -29,6 +32,9 @@ import static org.springframework.data.domain.Sort.by;
 @SpringBootTest
 class ReportServiceTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     UserRepository userRepository;
 
@@ -46,9 +52,7 @@ class ReportServiceTest {
 
     @BeforeEach
     void clean() {
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
-        reportRepository.deleteAll();
+        databaseCleaner.clean();
 
         user = User.builder()
                 .nickname("닉네임")
@@ -74,7 +78,7 @@ class ReportServiceTest {
         //given
         User user1 = User.builder()
                 .nickname("닉네임")
-                .loginId("아이디")
+                .loginId("신고자아이디")
                 .password("비밀번호")
                 .build();
 
@@ -114,7 +118,7 @@ class ReportServiceTest {
         //given
         User user1 = User.builder()
                 .nickname("닉네임")
-                .loginId("아이디")
+                .loginId("신고자아이디")
                 .password("비밀번호")
                 .build();
 
@@ -132,6 +136,51 @@ class ReportServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("동시 신고 중복 없음 테스트")
+    void concurrentReportTest() throws InterruptedException {
+        //given
+        User reporter = userRepository.save(User.builder()
+                .nickname("신고자")
+                .loginId("신고자아이디")
+                .password("비밀번호")
+                .build());
+
+        ReportRequest request = new ReportRequest();
+        request.setReportContent("신고");
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                    reportService.reportBoard(board.getId(), reporter.getId(), request);
+                    success.incrementAndGet();
+                } catch (DuplicationReportException e) {
+                    duplicated.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+
+        //when
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        //then
+        assertEquals(1, success.get());
+        assertEquals(threads.length - 1, duplicated.get());
+        assertEquals(1, reportRepository.count());
+        assertEquals(1, boardRepository.findById(board.getId()).get().getReportCount());
+    }
+
     @Test
     @Transactional
     @DisplayName("신고 게시글 조회 테스트")
@@ -139,7 +188,7 @@ class ReportServiceTest {
         //given
         User user1 = User.builder()
                 .nickname("닉네임")
-                .loginId("아이디")
+                .loginId("신고자아이디")
                 .password("비밀번호")
                 .build();
 
@@ -4,6 +4,10 @@ import com.spring.board.domain.Board;
 import com.spring.board.domain.Like;
 import com.spring.board.domain.User;
 import com.spring.board.exception.user.DuplicationLoginIdException;
+import com.spring.board.login.LoginIdFilter;
+import com.spring.board.login.LoginUser;
+import com.spring.board.login.PasswordHasher;
+import com.spring.board.purge.UserPurger;
 import com.spring.board.repository.BoardRepository;
 import com.spring.board.repository.LikeRepository;
 import com.spring.board.repository.UserRepository;
@@ -11,24 +15,31 @@ import com.spring.board.request.user.EditUserRequest;
 import com.spring.board.request.user.SaveUserRequest;
 import com.spring.board.response.user.SaveUserResponse;
 import com.spring.board.response.user.UserBoardResponse;
+import com.spring.board.response.user.UserPurgeJobResponse;
+import com.spring.board.support.DatabaseCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static com.spring.board.domain.PurgeStatus.DONE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 class UserServiceTest {
 
+    @Autowired
+    DatabaseCleaner databaseCleaner;
+
     @Autowired
     UserService userService;
 
@@ -41,10 +52,21 @@ class UserServiceTest {
     @Autowired
     LikeRepository likeRepository;
 
+    @Autowired
+    UserPurger userPurger;
+
+    @Autowired
+    LoginIdFilter loginIdFilter;
+
+    @Autowired
+    PasswordHasher passwordHasher;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void clean() {
-        userRepository.deleteAll();
-        boardRepository.deleteAll();
+        databaseCleaner.clean();
     }
 
     @Test
@@ -63,7 +85,7 @@ class UserServiceTest {
         assertEquals(1L, userRepository.count());
         assertEquals("닉네임", savedUser.getNickname());
         assertEquals("아이디", savedUser.getLoginId());
-        assertEquals("비밀번호", savedUser.getPassword());
+        assertTrue(passwordHasher.matches("비밀번호", userRepository.findById(savedUser.getId()).get().getPassword()));
     }
 
     @Test
@@ -88,6 +110,28 @@ class UserServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("필터에 없는 아이디 중복 시 유니크 제약으로 거절 테스트")
+    void duplicationBypassFilterTest() {
+        //given
+        jdbcTemplate.update("insert into users (user_id, nickname, login_id, password, grade, board_count, deleted) " +
+                "values (1, '닉네임', '다른노드아이디', '비밀번호', 'SILVER', 0, false)");
+
+        SaveUserRequest request = new SaveUserRequest();
+        request.setNickname("닉네임");
+        request.setLoginId("다른노드아이디");
+        request.setPassword("비밀번호");
+
+        long skipped = loginIdFilter.getSkippedCount();
+
+        //expected
+        assertThrows(DuplicationLoginIdException.class, () -> {
+            userService.save(request);
+        });
+        assertEquals(skipped + 1, loginIdFilter.getSkippedCount());
+        assertEquals(1L, userRepository.count());
+    }
+
     @Test
     @DisplayName("회원 수정 테스트")
     void editTest() {
@@ -104,10 +148,11 @@ class UserServiceTest {
         request.setPassword("새로운비밀번호");
 
         //when
-        User editUser = userService.editUserPassword(saveUser.getId(), request, user);
+        User editUser = userService.editUserPassword(saveUser.getId(), request, LoginUser.from(user));
 
         //then
-        assertEquals("새로운비밀번호", editUser.getPassword());
+        assertTrue(passwordHasher.matches("새로운비밀번호", editUser.getPassword()));
+        assertTrue(passwordHasher.matches("새로운비밀번호", userRepository.findById(saveUser.getId()).get().getPassword()));
     }
 
     @Test
@@ -123,10 +168,12 @@ class UserServiceTest {
         User saveUser = userRepository.save(user);
 
         //when
-        userService.deleteUser(saveUser.getId(), user);
+        UserPurgeJobResponse response = userService.deleteUser(saveUser.getId(), LoginUser.from(user));
+        userPurger.runPending();
 
         //then
         assertEquals(0, userRepository.count());
+        assertEquals(DONE, userService.getPurgeJob(response.getJobId()).getStatus());
     }
 
     @Test
@@ -179,12 +226,9 @@ class UserServiceTest {
 
         Board savedBoard = boardRepository.save(board);
 
-        Optional<Like> findLike = likeRepository.findByBoardIdAndUserId(board.getId(), user.getId());
-
         Like like = Like.builder()
                 .board(savedBoard)
                 .user(savedUser)
-                .like(findLike)
                 .build();
 
         likeRepository.save(like);
@@ -0,0 +1,31 @@
+package com.spring.board.support;
+
+import com.spring.board.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 표시된 행은 엔티티 조회와 cascade 에서 빠지므로 테스트 데이터는 외래 키 순서대로 일괄 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseCleaner {
+
+    private final ReplyRepository replyRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final ReportRepository reportRepository;
+    private final BoardRepository boardRepository;
+    private final BoardBodyRepository boardBodyRepository;
+    private final UserRepository userRepository;
+
+    public void clean() {
+        replyRepository.deleteAllInBatch();
+        commentRepository.deleteAllInBatch();
+        likeRepository.deleteAllInBatch();
+        reportRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        boardBodyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+}
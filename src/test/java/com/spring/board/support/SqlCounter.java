@@ -0,0 +1,23 @@
+package com.spring.board.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트 설정의 hibernate.session_factory.statement_inspector 로 등록되어 현재 스레드에서 준비된 SQL 문 수를 센다.
+ */
+public class SqlCounter implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        return sql;
+    }
+
+    public static int count(Runnable action) {
+        COUNT.set(0);
+        action.run();
+        return COUNT.get();
+    }
+}
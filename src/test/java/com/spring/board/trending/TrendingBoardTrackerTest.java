@@ -0,0 +1,82 @@
+package com.spring.board.trending;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrendingBoardTrackerTest {
+
+    private final AtomicLong now = new AtomicLong(Duration.ofDays(1).toMillis());
+    private TrendingBoardTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new TrendingBoardTracker(null, null, null, now::get,
+                Duration.ofMinutes(10), Duration.ofMinutes(1), 2);
+    }
+
+    @Test
+    @DisplayName("점수 순 상위 K개 조회 테스트")
+    void topTest() {
+        //given
+        tracker.record(1L, 1, now.get());
+        tracker.record(2L, 3, now.get());
+        tracker.record(3L, 2, now.get());
+
+        //when
+        tracker.refresh();
+
+        //then
+        assertEquals(List.of(2L, 3L), tracker.getTopBoardIds(10));
+        assertEquals(List.of(2L), tracker.getTopBoardIds(1));
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 활동 제외 테스트")
+    void slidingWindowTest() {
+        //given
+        tracker.record(1L, 5, now.get());
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+        tracker.record(2L, 1, now.get());
+
+        //when
+        now.addAndGet(Duration.ofMinutes(6).toMillis());
+        tracker.refresh();
+
+        //then
+        assertEquals(List.of(2L), tracker.getTopBoardIds(10));
+    }
+
+    @Test
+    @DisplayName("동시 기록 유실 없음 테스트")
+    void concurrentRecordTest() throws InterruptedException {
+        //given
+        SlidingWindowCounter counter = new SlidingWindowCounter(10);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    counter.add(100L, 1);
+                }
+            });
+        }
+
+        //when
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        //then
+        assertEquals(80_000, counter.sum(100L));
+        assertEquals(0, counter.sum(110L));
+    }
+}